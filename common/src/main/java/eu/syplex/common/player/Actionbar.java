@@ -3,16 +3,17 @@ package eu.syplex.common.player;
 import eu.syplex.common.exception.NoMessageFoundException;
 import eu.syplex.common.exception.NoMessagesFoundException;
 import eu.syplex.common.translator.ComponentTranslator;
+import net.kyori.adventure.audience.Audience;
 import net.kyori.adventure.text.Component;
-import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.java.JavaPlugin;
-import org.bukkit.scheduler.BukkitRunnable;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 /**
  * Represents a message sent into the action bar above the player hotbar.
@@ -25,8 +26,12 @@ public class Actionbar {
 	private final JavaPlugin plugin;
 	private String message = "";
 	private List<String> messages = Collections.emptyList();
+	private Component frame = Component.empty();
+	private List<Component> frames = Collections.emptyList();
 	private long delay = 0;
 	private long period = 0;
+	private int priority = 0;
+	private long ttl = 0;
 
 	/**
 	 * Instantiates a new {@link Actionbar} with the instance of the plugins main class.
@@ -38,7 +43,7 @@ public class Actionbar {
 	}
 
 	/**
-	 * Sends the message once using {@link ComponentTranslator#translateLegacy(String)} to the target player. <br>
+	 * Sends the message once to the target player. The message was already translated using {@link ComponentTranslator#translateLegacy(String)} when it was set. <br>
 	 * Requires {@link #message} to be set using {@link #message(String)}.
 	 *
 	 * @param player The target player
@@ -47,54 +52,111 @@ public class Actionbar {
 	 */
 	public void send(@NotNull Player player) throws NoMessageFoundException {
 		if (message == null) throw new NoMessageFoundException();
-		player.sendActionBar(ComponentTranslator.translator().translateLegacy(message));
+		player.sendActionBar(frame);
 	}
 
 	/**
-	 * Sends the message permanently to the target player. <br>
+	 * Sends the message permanently to the target player through the {@link ActionbarService}. <br>
+	 * This actionbar is shown as its own channel with the {@link #priority} and expires after the {@link #ttl}, if set. Sending it again replaces it. <br>
 	 * Requires {@link #delay}, {@link #period} and {@link #message} to be set using {@link #delay(long)}, {@link #period(long)} and {@link #message(String)}. <br>
 	 * Otherwise, the default values {@code 0} will be used.
 	 *
 	 * @param player The target player
 	 *
+	 * @return The handle to pause or cancel the actionbar
+	 *
 	 * @throws NoMessageFoundException Thrown if no message it provided
 	 */
-	public void sendPermanently(@NotNull Player player) throws NoMessageFoundException {
+	public ActionbarHandle sendPermanently(@NotNull Player player) throws NoMessageFoundException {
 		if (message == null) throw new NoMessageFoundException();
-		new BukkitRunnable() {
-			@Override
-			public void run() {
-				player.sendActionBar(ComponentTranslator.translator().translateLegacy(message));
-			}
-		}.runTaskTimerAsynchronously(plugin, delay, period);
+		return service().show(player, this, priority, ttl, List.of(frame), delay, period);
 	}
 
 	/**
-	 * Sends changing messages to the target player. To keep the message visible for a period of 3 seconds, after 1.5 seconds the message will be resend.<br>
+	 * Sends changing messages to the target player through the {@link ActionbarService}. Each message is shown for the {@link #period}
+	 * and kept visible by the service until the next one follows. <br>
+	 * This actionbar is shown as its own channel with the {@link #priority} and expires after the {@link #ttl}, if set. Sending it again replaces it. <br>
 	 * Requires {@link #delay}, {@link #period} and {@link #messages} to be set using {@link #delay(long)}, {@link #period(long)} and {@link #messages(List)}. <br>
 	 * Otherwise, the default values {@code 0} will be used.
 	 *
 	 * @param player The target player
 	 *
+	 * @return The handle to pause or cancel the actionbar
+	 *
 	 * @throws NoMessagesFoundException Thrown if no messages are provided
 	 */
-	public void sendChanging(@NotNull Player player) throws NoMessagesFoundException {
+	public ActionbarHandle sendChanging(@NotNull Player player) throws NoMessagesFoundException {
 		if (messages.isEmpty()) throw new NoMessagesFoundException();
+		return service().show(player, this, priority, ttl, frames, delay, period);
+	}
+
+	/**
+	 * Broadcasts the message permanently to an audience through the {@link ActionbarService}, e.g. a world or the whole server. <br>
+	 * The message is rendered once for all members of the audience. For each member, it competes with the channels of the member by the {@link #priority}.
+	 * Broadcasting it again to the same audience replaces the broadcast, broadcasts to other audiences are kept.
+	 *
+	 * @param audience The target audience
+	 *
+	 * @return The handle to pause or cancel the actionbar
+	 *
+	 * @throws NoMessageFoundException Thrown if no message it provided
+	 * @see #broadcast(Supplier)
+	 */
+	public ActionbarHandle broadcast(@NotNull Audience audience) throws NoMessageFoundException {
+		if (message == null) throw new NoMessageFoundException();
+		return service().broadcast(new Channel(this, audience), () -> audience, priority, ttl, List.of(frame), delay, period);
+	}
 
-		AtomicInteger i = new AtomicInteger();
-		Bukkit.getScheduler().runTaskTimerAsynchronously(plugin, () -> {
-			final Component component = ComponentTranslator.translator().translateLegacy(messages.get(i.get()));
-			player.sendActionBar(component);
+	/**
+	 * Broadcasts the message permanently to a dynamic group of players, e.g. all players of an arena. <br>
+	 * The group is resolved again every tick, so players joining or leaving it apply without sending it again.
+	 * Broadcasting it again to the same supplier replaces the broadcast.
+	 *
+	 * @param group The supplier of the players
+	 *
+	 * @return The handle to pause or cancel the actionbar
+	 *
+	 * @throws NoMessageFoundException Thrown if no message it provided
+	 */
+	public ActionbarHandle broadcast(@NotNull Supplier<? extends Collection<? extends Player>> group) throws NoMessageFoundException {
+		if (message == null) throw new NoMessageFoundException();
+		return service().broadcast(new Channel(this, group), () -> Audience.audience(group.get()), priority, ttl, List.of(frame), delay, period);
+	}
 
-			Bukkit.getScheduler().runTaskLater(plugin, () -> player.sendActionBar(component), period / 2);
+	/**
+	 * Broadcasts changing messages to an audience through the {@link ActionbarService}. Each message is rendered once for all members of the audience.
+	 * Broadcasting it again to the same audience replaces the broadcast.
+	 *
+	 * @param audience The target audience
+	 *
+	 * @return The handle to pause or cancel the actionbar
+	 *
+	 * @throws NoMessagesFoundException Thrown if no messages are provided
+	 * @see #sendChanging(Player)
+	 */
+	public ActionbarHandle broadcastChanging(@NotNull Audience audience) throws NoMessagesFoundException {
+		if (messages.isEmpty()) throw new NoMessagesFoundException();
+		return service().broadcast(new Channel(this, audience), () -> audience, priority, ttl, frames, delay, period);
+	}
 
-			if (i.get() == messages.size() - 1) i.set(0);
-			else i.getAndIncrement();
-		}, delay, period);
+	/**
+	 * Broadcasts changing messages to a dynamic group of players. The group is resolved again every tick.
+	 * Broadcasting it again to the same supplier replaces the broadcast.
+	 *
+	 * @param group The supplier of the players
+	 *
+	 * @return The handle to pause or cancel the actionbar
+	 *
+	 * @throws NoMessagesFoundException Thrown if no messages are provided
+	 * @see #broadcast(Supplier)
+	 */
+	public ActionbarHandle broadcastChanging(@NotNull Supplier<? extends Collection<? extends Player>> group) throws NoMessagesFoundException {
+		if (messages.isEmpty()) throw new NoMessagesFoundException();
+		return service().broadcast(new Channel(this, group), () -> Audience.audience(group.get()), priority, ttl, frames, delay, period);
 	}
 
 	/**
-	 * Provides a legacy message to send.
+	 * Provides a legacy message to send. The message is translated into a component once, so sending it does not parse it again.
 	 *
 	 * @param message The message
 	 *
@@ -102,18 +164,25 @@ public class Actionbar {
 	 */
 	public Actionbar message(@NotNull String message) {
 		this.message = message;
+		this.frame = ComponentTranslator.translator().translateLegacy(message);
 		return this;
 	}
 
 	/**
-	 * Provides a list of legacy messages to send.
+	 * Provides a list of legacy messages to send. The messages are translated into components once, so sending them does not parse them again.
 	 *
 	 * @param messages The messages
 	 *
 	 * @return The current instance
 	 */
 	public Actionbar messages(@NotNull List<String> messages) {
-		this.messages = messages;
+		List<Component> frames = new ArrayList<>(messages.size());
+		for (String message : messages) {
+			frames.add(ComponentTranslator.translator().translateLegacy(message));
+		}
+
+		this.messages = List.copyOf(messages);
+		this.frames = List.copyOf(frames);
 		return this;
 	}
 
@@ -130,7 +199,7 @@ public class Actionbar {
 	}
 
 	/**
-	 * Configures the {@link #period}.
+	 * Configures the {@link #period}. A period shorter than the {@link ActionbarService#window()} is raised to it.
 	 *
 	 * @param period The new period
 	 *
@@ -141,6 +210,30 @@ public class Actionbar {
 		return this;
 	}
 
+	/**
+	 * Configures the {@link #priority} of the channel of this actionbar. Only the channel with the highest priority of a player is shown.
+	 *
+	 * @param priority The new priority
+	 *
+	 * @return The current instance
+	 */
+	public Actionbar priority(int priority) {
+		this.priority = priority;
+		return this;
+	}
+
+	/**
+	 * Configures the {@link #ttl} in ticks after which the channel of this actionbar expires. {@code 0} never expires.
+	 *
+	 * @param ttl The new ttl
+	 *
+	 * @return The current instance
+	 */
+	public Actionbar ttl(long ttl) {
+		this.ttl = ttl;
+		return this;
+	}
+
 	/**
 	 * Returns the {@link #message} to send. If not configured, an empty string.
 	 *
@@ -176,4 +269,42 @@ public class Actionbar {
 	public long period() {
 		return period;
 	}
+
+	/**
+	 * Returns the configured {@link #priority} or {@code 0}.
+	 *
+	 * @return The current priority
+	 */
+	public int priority() {
+		return priority;
+	}
+
+	/**
+	 * Returns the configured {@link #ttl} or {@code 0}.
+	 *
+	 * @return The current ttl
+	 */
+	public long ttl() {
+		return ttl;
+	}
+
+	/**
+	 * Returns the {@link ActionbarService} and starts it if not running yet.
+	 *
+	 * @return The service
+	 */
+	private ActionbarService service() {
+		ActionbarService service = ActionbarService.actionbarService();
+		service.start(plugin);
+		return service;
+	}
+
+	/**
+	 * Represents the channel of a broadcast of an actionbar to one audience, so broadcasts to different audiences do not replace each other.
+	 *
+	 * @param actionbar The actionbar
+	 * @param audience  The audience or the supplier of the group
+	 */
+	private record Channel(@NotNull Actionbar actionbar, @NotNull Object audience) {
+	}
 }
@@ -0,0 +1,79 @@
+package eu.syplex.common.player;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.Consumer;
+
+/**
+ * Represents a running actionbar of the {@link ActionbarService}, e.g. returned by {@link Actionbar#sendPermanently(org.bukkit.entity.Player)}. <br>
+ * A paused actionbar keeps its place but is neither computed nor sent until it is resumed. A cancelled actionbar is removed from the service.
+ * Actionbars of a player are cancelled automatically when the player quits.
+ *
+ * @version 1.0.0
+ * @since 1.3.0
+ */
+public class ActionbarHandle {
+
+	private final Consumer<ActionbarHandle> remove;
+
+	private volatile boolean paused = false;
+	private volatile boolean cancelled = false;
+
+	/**
+	 * Instantiates a new {@link ActionbarHandle}.
+	 *
+	 * @param remove The action removing the actionbar from the service
+	 */
+	ActionbarHandle(@NotNull Consumer<ActionbarHandle> remove) {
+		this.remove = remove;
+	}
+
+	/**
+	 * Cancels the actionbar and removes it from the service. Nothing happens if already cancelled.
+	 */
+	public void cancel() {
+		if (cancelled) return;
+
+		cancelled = true;
+		remove.accept(this);
+	}
+
+	/**
+	 * Pauses the actionbar until it is resumed.
+	 */
+	public void pause() {
+		paused = true;
+	}
+
+	/**
+	 * Resumes the paused actionbar.
+	 */
+	public void resume() {
+		paused = false;
+	}
+
+	/**
+	 * Returns whether the actionbar is paused.
+	 *
+	 * @return {@code true} if paused. Otherwise, {@code false}.
+	 */
+	public boolean isPaused() {
+		return paused;
+	}
+
+	/**
+	 * Returns whether the actionbar is cancelled, expired, replaced or the player quit.
+	 *
+	 * @return {@code true} if cancelled. Otherwise, {@code false}.
+	 */
+	public boolean isCancelled() {
+		return cancelled;
+	}
+
+	/**
+	 * Marks the actionbar cancelled after the service already removed it.
+	 */
+	void expire() {
+		cancelled = true;
+	}
+}
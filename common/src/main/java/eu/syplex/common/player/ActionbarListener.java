@@ -0,0 +1,27 @@
+package eu.syplex.common.player;
+
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+/**
+ * Represents a listener cancelling all actionbars of a player when the player quits, so no task outlives the session. <br>
+ * The {@link ActionbarService} registers it automatically when it is started.
+ *
+ * @version 1.0.0
+ * @since 1.3.0
+ */
+public class ActionbarListener implements Listener {
+
+	/**
+	 * Cancels all actionbars of the quitting player. <br>
+	 * <b>Do not call this method. This in an implementation of an {@link Listener}!</b>
+	 *
+	 * @param event The event that is called
+	 */
+	@EventHandler(priority = EventPriority.MONITOR)
+	public void onQuit(PlayerQuitEvent event) {
+		ActionbarService.actionbarService().release(event.getPlayer().getUniqueId());
+	}
+}
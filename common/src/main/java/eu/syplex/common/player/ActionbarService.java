@@ -0,0 +1,607 @@
+package eu.syplex.common.player;
+
+import net.kyori.adventure.audience.Audience;
+import net.kyori.adventure.text.Component;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.HandlerList;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Represents the central service sending all repeating {@link Actionbar}s from one task. <br>
+ * Every player keeps a compact state of its bars and the component sent last. Per player, at most one component is sent per {@link #window},
+ * and a component still shown by the client is only sent again after {@link #keepAlive} ticks, before it fades out. <br>
+ * Messages are shown in channels with a priority and an optional expiry, e.g. combat tag, quest progress or AFK warning.
+ * Per player, a single arbitration picks the channel with the highest priority and only that one is computed and sent.
+ * Broadcasts compute each frame once per tick and take part in the arbitration of every member of their audience with their own priority,
+ * so a member is never sent a broadcast and its own channel in turns. Every actionbar returns an {@link ActionbarHandle} and is cancelled when its player quits.
+ *
+ * @version 1.0.0
+ * @since 1.3.0
+ */
+public class ActionbarService {
+
+	private static ActionbarService actionbarService = null;
+
+	private final Map<UUID, Viewer> viewers = new ConcurrentHashMap<>();
+	private final Map<Object, Broadcast> broadcasts = new ConcurrentHashMap<>();
+	private final ActionbarListener listener = new ActionbarListener();
+
+	private final AtomicLong sequence = new AtomicLong();
+
+	private long window = 10;
+	private long keepAlive = 40;
+	private long tick = 0;
+
+	private BukkitTask task;
+
+	/**
+	 * Instantiates a new singleton {@link ActionbarService}.
+	 */
+	private ActionbarService() {
+		actionbarService = this;
+	}
+
+	/**
+	 * Returns the singleton instance of the {@link ActionbarService}.
+	 *
+	 * @return The singleton instance
+	 */
+	public static ActionbarService actionbarService() {
+		if (actionbarService == null) actionbarService = new ActionbarService();
+		return actionbarService;
+	}
+
+	// MARK: Public API
+
+	/**
+	 * Starts the repeating task of this service if not running yet. Called automatically by every repeating {@link Actionbar}.
+	 * A task cancelled by bukkit, e.g. because its plugin was disabled on a reload, is started again
+	 * and the {@link ActionbarListener} is registered again for the new plugin instance.
+	 *
+	 * @param plugin The plugins main class instance
+	 */
+	public synchronized void start(@NotNull JavaPlugin plugin) {
+		if (running()) return;
+
+		task = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 1, 1);
+		HandlerList.unregisterAll(listener);
+		Bukkit.getPluginManager().registerEvents(listener, plugin);
+	}
+
+	/**
+	 * Stops the repeating task of this service, unregisters its {@link ActionbarListener} and cancels all actionbars.
+	 */
+	public synchronized void stop() {
+		if (task == null) return;
+
+		task.cancel();
+		task = null;
+		HandlerList.unregisterAll(listener);
+
+		viewers.values().forEach(Viewer::expire);
+		viewers.clear();
+		broadcasts.values().forEach(broadcast -> broadcast.handle.expire());
+		broadcasts.clear();
+	}
+
+	/**
+	 * Configures the {@link #window} in ticks in which at most one component is sent to a player.
+	 * Changing actionbars created afterwards show each frame for at least one window, so no frame is skipped.
+	 *
+	 * @param window The new window
+	 *
+	 * @return The current instance
+	 */
+	public ActionbarService window(long window) {
+		this.window = Math.max(1, window);
+		return this;
+	}
+
+	/**
+	 * Configures the {@link #keepAlive} in ticks after which an unchanged component is sent again.
+	 *
+	 * @param keepAlive The new keep alive
+	 *
+	 * @return The current instance
+	 */
+	public ActionbarService keepAlive(long keepAlive) {
+		this.keepAlive = Math.max(1, keepAlive);
+		return this;
+	}
+
+	/**
+	 * Returns the configured {@link #window} or {@code 10}.
+	 *
+	 * @return The current window
+	 */
+	public long window() {
+		return window;
+	}
+
+	/**
+	 * Returns the configured {@link #keepAlive} or {@code 40}.
+	 *
+	 * @return The current keep alive
+	 */
+	public long keepAlive() {
+		return keepAlive;
+	}
+
+	/**
+	 * Returns the amount of players currently having at least one channel.
+	 *
+	 * @return The amount of players
+	 */
+	public int players() {
+		return viewers.size();
+	}
+
+	/**
+	 * Shows a message in a channel of a player. A channel holds at most one message, so showing another one replaces it. <br>
+	 * Each cycle, only the channel with the highest priority is shown, ties are won by the channel shown last.
+	 * The message of all other channels is not even computed while they are masked.
+	 *
+	 * @param player   The player
+	 * @param channel  The channel, e.g. {@code "combat"}
+	 * @param priority The priority of the channel
+	 * @param ttl      The amount of ticks until the channel expires or {@code 0} to never expire
+	 * @param message  The supplier of the message. Only called while the channel is shown
+	 *
+	 * @return The handle of the message
+	 */
+	public ActionbarHandle show(@NotNull Player player, @NotNull Object channel, int priority, long ttl, @NotNull Supplier<@NotNull Component> message) {
+		return show(player, channel, priority, ttl, tick -> message.get());
+	}
+
+	/**
+	 * Removes a channel of a player. Nothing happens if the player has no such channel.
+	 *
+	 * @param player  The player
+	 * @param channel The channel
+	 */
+	public void clear(@NotNull Player player, @NotNull Object channel) {
+		Viewer viewer = viewers.get(player.getUniqueId());
+		if (viewer != null) viewer.remove(bar -> bar.channel().equals(channel));
+	}
+
+	/**
+	 * Stops a broadcast. Nothing happens if there is no broadcast of the channel.
+	 *
+	 * @param channel The channel of the broadcast
+	 */
+	public void clearBroadcast(@NotNull Object channel) {
+		Broadcast broadcast = broadcasts.remove(channel);
+		if (broadcast != null) broadcast.handle.expire();
+	}
+
+	/**
+	 * Cancels all actionbars of a player, e.g. when the player quits. Called by the {@link ActionbarListener}.
+	 *
+	 * @param uuid The unique id of the player
+	 */
+	public void release(@NotNull UUID uuid) {
+		Viewer viewer = viewers.remove(uuid);
+		if (viewer != null) viewer.expire();
+	}
+
+	/**
+	 * Returns the amount of live actionbars, i.e. the channels of all players and all broadcasts.
+	 *
+	 * @return The amount of live actionbars
+	 */
+	public int tasks() {
+		int tasks = broadcasts.size();
+		for (Viewer viewer : viewers.values()) {
+			tasks += viewer.size();
+		}
+		return tasks;
+	}
+
+	/**
+	 * Returns the amount of running broadcasts.
+	 *
+	 * @return The amount of broadcasts
+	 */
+	public int broadcasts() {
+		return broadcasts.size();
+	}
+
+	// MARK: Internal API
+
+	/**
+	 * Shows frames in a channel of a player. The frames are shown one after another, each for the period.
+	 *
+	 * @param player   The player
+	 * @param channel  The channel
+	 * @param priority The priority of the channel
+	 * @param ttl      The amount of ticks until the channel expires or {@code 0} to never expire
+	 * @param frames   The frames
+	 * @param delay    The delay in ticks before the first frame is shown
+	 * @param period   The amount of ticks a single frame is shown
+	 *
+	 * @return The handle of the frames
+	 * @see #show(Player, Object, int, long, Supplier)
+	 */
+	ActionbarHandle show(@NotNull Player player, @NotNull Object channel, int priority, long ttl, @NotNull List<Component> frames, long delay, long period) {
+		return show(player, channel, priority, ttl, frames(frames, delay, period));
+	}
+
+	/**
+	 * Broadcasts frames to an audience, replacing the broadcast of the same channel. Each frame is computed once per tick for the whole audience.
+	 * The audience is resolved again every tick, so changes of its members apply right away. For every player of the audience,
+	 * the broadcast is arbitrated against the channels of the player and other broadcasts by its priority, ties are won by the one shown last.
+	 *
+	 * @param channel  The channel, e.g. the actionbar together with its audience
+	 * @param audience The supplier of the audience, e.g. all players of an arena
+	 * @param priority The priority of the broadcast
+	 * @param ttl      The amount of ticks until the broadcast expires or {@code 0} to never expire
+	 * @param frames   The frames
+	 * @param delay    The delay in ticks before the first frame is shown
+	 * @param period   The amount of ticks a single frame is shown
+	 *
+	 * @return The handle of the broadcast
+	 */
+	ActionbarHandle broadcast(@NotNull Object channel, @NotNull Supplier<? extends Audience> audience, int priority, long ttl, @NotNull List<Component> frames, long delay, long period) {
+		ActionbarHandle handle = new ActionbarHandle(removed -> broadcasts.computeIfPresent(channel, (key, broadcast) -> broadcast.handle == removed ? null : broadcast));
+
+		Broadcast broadcast = new Broadcast(handle, audience, priority, sequence.incrementAndGet(), expiry(ttl), frames(frames, delay, period));
+		Broadcast previous = broadcasts.put(channel, broadcast);
+		if (previous != null) previous.handle.expire();
+		return handle;
+	}
+
+	/**
+	 * Creates the frames showing the components one after another, each for the period.
+	 * A period shorter than the {@link #window} is raised to it, since frames shown shorter would never be sent.
+	 *
+	 * @param components The components
+	 * @param delay      The delay in ticks before the first component is shown
+	 * @param period     The amount of ticks a single component is shown
+	 *
+	 * @return The frames
+	 */
+	private @NotNull Frames frames(@NotNull List<Component> components, long delay, long period) {
+		List<Component> copy = List.copyOf(components);
+		long start = tick + Math.max(0, delay);
+		long length = Math.max(window, period);
+
+		return tick -> tick < start ? null : copy.get((int) ((tick - start) / length % copy.size()));
+	}
+
+	/**
+	 * Adds a bar to a player, replacing the bar of the same channel.
+	 *
+	 * @param player   The player
+	 * @param channel  The channel
+	 * @param priority The priority of the channel
+	 * @param ttl      The amount of ticks until the channel expires or {@code 0} to never expire
+	 * @param frames   The frames
+	 *
+	 * @return The handle of the bar
+	 */
+	private @NotNull ActionbarHandle show(@NotNull Player player, @NotNull Object channel, int priority, long ttl, @NotNull Frames frames) {
+		UUID uuid = player.getUniqueId();
+		ActionbarHandle handle = new ActionbarHandle(removed -> remove(uuid, removed));
+
+		Bar bar = new Bar(channel, priority, sequence.incrementAndGet(), expiry(ttl), frames, handle);
+		viewers.compute(uuid, (key, viewer) -> {
+			if (viewer == null) viewer = new Viewer();
+			viewer.add(bar);
+			return viewer;
+		});
+		return handle;
+	}
+
+	/**
+	 * Removes the bar of a handle from a player. The player is dropped by the next tick, after the actionbar of the client was cleared.
+	 *
+	 * @param uuid   The unique id of the player
+	 * @param handle The handle
+	 */
+	private void remove(@NotNull UUID uuid, @NotNull ActionbarHandle handle) {
+		Viewer viewer = viewers.get(uuid);
+		if (viewer != null) viewer.remove(bar -> bar.handle() == handle);
+	}
+
+	/**
+	 * Returns the tick a channel with the ttl expires in.
+	 *
+	 * @param ttl The amount of ticks until the channel expires or {@code 0} to never expire
+	 *
+	 * @return The tick of expiry
+	 */
+	private long expiry(long ttl) {
+		return ttl <= 0 ? Long.MAX_VALUE : tick + ttl;
+	}
+
+	/**
+	 * Returns whether the repeating task of this service is scheduled and not cancelled.
+	 *
+	 * @return {@code true} if the task is running. Otherwise, {@code false}.
+	 */
+	private boolean running() {
+		return task != null && !task.isCancelled() && Bukkit.getScheduler().isQueued(task.getTaskId());
+	}
+
+	/**
+	 * Sends the winning component of every player if due. The frame of every broadcast is computed once and offered to all members of its audience.
+	 * If nothing replaces the component shown last, e.g. because its channel was paused or cancelled, the actionbar of the client is cleared right away.
+	 * Players gone offline or without channels are dropped.
+	 */
+	private void tick() {
+		long tick = ++this.tick;
+
+		Map<UUID, Offer> offers = offers(tick);
+		offers.keySet().forEach(uuid -> viewers.computeIfAbsent(uuid, key -> new Viewer()));
+
+		for (Map.Entry<UUID, Viewer> entry : viewers.entrySet()) {
+			Player player = Bukkit.getPlayer(entry.getKey());
+			Viewer viewer = entry.getValue();
+
+			if (player == null) {
+				release(entry.getKey());
+				continue;
+			}
+
+			Component component = viewer.component(tick, offers.get(entry.getKey()));
+			if (component == null) {
+				if (viewer.clear()) player.sendActionBar(Component.empty());
+				viewers.computeIfPresent(entry.getKey(), (uuid, current) -> current.isEmpty() ? null : current);
+				continue;
+			}
+
+			if (!viewer.due(component, tick, window, keepAlive)) continue;
+
+			player.sendActionBar(component);
+			viewer.sent(component, tick);
+		}
+	}
+
+	/**
+	 * Computes the frame of every running broadcast in the tick and returns the strongest broadcast offered to each player. Expired broadcasts are dropped.
+	 *
+	 * @param tick The tick
+	 *
+	 * @return The offers by the unique id of the players
+	 */
+	private @NotNull Map<UUID, Offer> offers(long tick) {
+		Map<UUID, Offer> offers = new HashMap<>();
+
+		for (Map.Entry<Object, Broadcast> entry : broadcasts.entrySet()) {
+			Broadcast broadcast = entry.getValue();
+
+			if (broadcast.expiresAt <= tick) {
+				broadcasts.remove(entry.getKey(), broadcast);
+				broadcast.handle.expire();
+				continue;
+			}
+
+			if (broadcast.handle.isPaused()) continue;
+
+			Component component = broadcast.frames.frame(tick);
+			if (component == null) continue;
+
+			Offer offer = new Offer(broadcast.priority, broadcast.sequence, component);
+			broadcast.audience.get().forEachAudience(member -> {
+				if (member instanceof Player player) offers.merge(player.getUniqueId(), offer, (current, next) -> next.outranks(current.priority(), current.sequence()) ? next : current);
+			});
+		}
+		return offers;
+	}
+
+	/**
+	 * Represents the state of a single player.
+	 */
+	private static final class Viewer extends Sent {
+
+		private final List<Bar> bars = new ArrayList<>(2);
+
+		/**
+		 * Adds a bar, replacing the bar of the same channel.
+		 *
+		 * @param bar The bar
+		 */
+		private synchronized void add(@NotNull Bar bar) {
+			remove(other -> other.channel().equals(bar.channel()));
+			bars.add(bar);
+		}
+
+		/**
+		 * Removes all bars matching the filter and marks their handles cancelled.
+		 *
+		 * @param filter The filter
+		 */
+		private synchronized void remove(@NotNull Predicate<Bar> filter) {
+			bars.removeIf(bar -> {
+				if (!filter.test(bar)) return false;
+
+				bar.handle().expire();
+				return true;
+			});
+		}
+
+		/**
+		 * Marks the handles of all bars cancelled.
+		 */
+		private synchronized void expire() {
+			bars.forEach(bar -> bar.handle().expire());
+		}
+
+		/**
+		 * Returns the amount of bars of the player.
+		 *
+		 * @return The amount of bars
+		 */
+		private synchronized int size() {
+			return bars.size();
+		}
+
+		/**
+		 * Returns whether the player has no bar left.
+		 *
+		 * @return {@code true} if no bar is left. Otherwise, {@code false}.
+		 */
+		private synchronized boolean isEmpty() {
+			return bars.isEmpty();
+		}
+
+		/**
+		 * Drops all expired bars and returns the component of the winner in the tick, either the winning bar or the offered broadcast.
+		 * Paused bars do not take part. Only the frame of the winner is computed. May be null if nothing is left or the winner is not started yet.
+		 *
+		 * @param tick  The tick
+		 * @param offer The strongest broadcast offered to the player or null
+		 *
+		 * @return The component or null
+		 */
+		private synchronized @Nullable Component component(long tick, @Nullable Offer offer) {
+			remove(bar -> bar.expiresAt() <= tick);
+
+			Bar winner = null;
+			for (Bar bar : bars) {
+				if (bar.handle().isPaused()) continue;
+				if (winner == null || bar.priority() >= winner.priority()) winner = bar;
+			}
+
+			if (offer != null && (winner == null || offer.outranks(winner.priority(), winner.sequence()))) return offer.component();
+			return winner == null ? null : winner.frames().frame(tick);
+		}
+	}
+
+	/**
+	 * Represents a message shown to an audience by one broadcast.
+	 */
+	private static final class Broadcast {
+
+		private final ActionbarHandle handle;
+		private final Supplier<? extends Audience> audience;
+		private final int priority;
+		private final long sequence;
+		private final long expiresAt;
+		private final Frames frames;
+
+		private Broadcast(@NotNull ActionbarHandle handle, @NotNull Supplier<? extends Audience> audience, int priority, long sequence, long expiresAt, @NotNull Frames frames) {
+			this.handle = handle;
+			this.audience = audience;
+			this.priority = priority;
+			this.sequence = sequence;
+			this.expiresAt = expiresAt;
+			this.frames = frames;
+		}
+	}
+
+	/**
+	 * Represents the component sent last to a player.
+	 */
+	private abstract static class Sent {
+
+		private @Nullable Component shown;
+		private long sentAt;
+
+		/**
+		 * Returns whether the component has to be sent in the tick.
+		 *
+		 * @param component The component
+		 * @param tick      The tick
+		 * @param window    The minimum amount of ticks between two sent components
+		 * @param keepAlive The amount of ticks after which an unchanged component is sent again
+		 *
+		 * @return {@code true} if the component has to be sent. Otherwise, {@code false}.
+		 */
+		boolean due(@NotNull Component component, long tick, long window, long keepAlive) {
+			if (shown == null) return true;
+
+			long elapsed = tick - sentAt;
+			return component.equals(shown) ? elapsed >= keepAlive : elapsed >= window;
+		}
+
+		/**
+		 * Remembers the component sent in the tick.
+		 *
+		 * @param component The component
+		 * @param tick      The tick
+		 */
+		void sent(@NotNull Component component, long tick) {
+			shown = component;
+			sentAt = tick;
+		}
+
+		/**
+		 * Forgets the component sent last.
+		 *
+		 * @return {@code true} if a component was shown and has to be cleared. Otherwise, {@code false}.
+		 */
+		boolean clear() {
+			if (shown == null) return false;
+
+			shown = null;
+			return true;
+		}
+	}
+
+	/**
+	 * Represents the message of a channel of a player.
+	 *
+	 * @param channel   The channel
+	 * @param priority  The priority of the channel
+	 * @param sequence  The order the message was shown in, later messages win ties
+	 * @param expiresAt The tick the channel expires in
+	 * @param frames    The frames of the message
+	 * @param handle    The handle of the message
+	 */
+	private record Bar(@NotNull Object channel, int priority, long sequence, long expiresAt, @NotNull Frames frames, @NotNull ActionbarHandle handle) {
+	}
+
+	/**
+	 * Represents the frame of a broadcast offered to a player in a tick.
+	 *
+	 * @param priority  The priority of the broadcast
+	 * @param sequence  The order the broadcast was started in, later broadcasts win ties
+	 * @param component The frame
+	 */
+	private record Offer(int priority, long sequence, @NotNull Component component) {
+
+		/**
+		 * Returns whether this offer wins against a message with the priority and sequence.
+		 *
+		 * @param priority The priority of the other message
+		 * @param sequence The sequence of the other message
+		 *
+		 * @return {@code true} if this offer wins. Otherwise, {@code false}.
+		 */
+		private boolean outranks(int priority, long sequence) {
+			return this.priority > priority || this.priority == priority && this.sequence > sequence;
+		}
+	}
+
+	/**
+	 * Represents the frames of a message.
+	 */
+	@FunctionalInterface
+	private interface Frames {
+
+		/**
+		 * Returns the frame shown in the tick. May be null if nothing is shown yet.
+		 *
+		 * @param tick The tick
+		 *
+		 * @return The frame or null
+		 */
+		@Nullable Component frame(long tick);
+
+	}
+}
@@ -0,0 +1,202 @@
+package eu.syplex.scoreboard;
+
+import eu.syplex.common.exception.NotTranslatableException;
+import eu.syplex.scoreboard.animation.Animation;
+import eu.syplex.scoreboard.exception.LineTooLongException;
+import eu.syplex.scoreboard.reactive.Observable;
+import net.kyori.adventure.text.Component;
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitTask;
+import org.bukkit.scoreboard.Scoreboard;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+
+/**
+ * Represents the single ticker advancing all {@link Animation}s shown on {@link PlexBoard}s. <br>
+ * A board is bound to the animations used by its title or lines, e.g. {@code () -> animation.current()}.
+ * Every tick, only the boards having at least one animation whose visible frame changed are updated.
+ * Boards without a changed frame are not touched at all. With a {@link BoardScheduler}, changed boards are handed to it, so they are
+ * rendered within its budget and by its {@link AsyncBoardRenderer}, if configured. Without one, they are updated right away on the main thread. <br>
+ * Destroyed boards are unbound automatically. <br>
+ * Lines of a {@link ReactiveScoreboard} are bound to the {@link Observable} of an animation instead, e.g.
+ * {@code board.componentLine(frame::get, frame)} with {@code frame = ticker.observe(animation)}.
+ * A changed frame then only marks the lines showing it dirty, so only these lines are rendered again.
+ *
+ * @version 1.0.0
+ * @since 1.3.0
+ */
+public class AnimationTicker {
+
+    private final JavaPlugin plugin;
+    private final Map<PlexBoard, List<Animation>> bindings = new ConcurrentHashMap<>();
+    private final Map<Animation, Observable<Component>> observed = new ConcurrentHashMap<>();
+
+    private @Nullable BoardScheduler scheduler;
+    private BukkitTask task;
+
+    /**
+     * Instantiates a new {@link AnimationTicker} with the instance of the plugins main class.
+     *
+     * @param plugin The plugins main class instance
+     */
+    public AnimationTicker(@NotNull JavaPlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    // MARK: Public API
+
+    /**
+     * Binds a board to the animations it shows. Binding a board again replaces its animations. <br>
+     * A {@link ReactiveScoreboard} is only rendered again if one of its lines is bound to an {@link #observe(Animation) observed} animation.
+     *
+     * @param board      The board
+     * @param animations The animations used by the title or lines of the board
+     * @return The current instance
+     */
+    public AnimationTicker bind(@NotNull PlexBoard board, @NotNull Animation... animations) {
+        bindings.put(board, List.of(animations));
+        return this;
+    }
+
+    /**
+     * Returns the observable holding the visible frame of the animation. It is set by this ticker whenever the visible frame changes,
+     * so lines of a {@link ReactiveScoreboard} bound to it are marked dirty only then.
+     *
+     * @param animation The animation
+     * @return The observable frame
+     */
+    public @NotNull Observable<Component> observe(@NotNull Animation animation) {
+        return observed.computeIfAbsent(animation, key -> new Observable<>(key.current()));
+    }
+
+    /**
+     * Stops setting the observable frame of the animation. Lines bound to it keep their last frame.
+     *
+     * @param animation The animation
+     */
+    public void unobserve(@NotNull Animation animation) {
+        observed.remove(animation);
+    }
+
+    /**
+     * Unbinds a board from all of its animations.
+     *
+     * @param board The board
+     */
+    public void unbind(@NotNull PlexBoard board) {
+        bindings.remove(board);
+    }
+
+    /**
+     * Configures the {@link #scheduler} changed boards are handed to. If null, changed boards are updated right away on the main thread.
+     *
+     * @param scheduler The new scheduler or null
+     * @return The current instance
+     * @see BoardScheduler#queue(PlexBoard)
+     */
+    public AnimationTicker scheduler(@Nullable BoardScheduler scheduler) {
+        this.scheduler = scheduler;
+        return this;
+    }
+
+    /**
+     * Returns the configured {@link #scheduler}. May be null.
+     *
+     * @return The current scheduler or null
+     */
+    public @Nullable BoardScheduler scheduler() {
+        return scheduler;
+    }
+
+    /**
+     * Starts the repeating task of this ticker if not running yet. Must be called on the main thread.
+     */
+    public void start() {
+        if (task != null) return;
+        task = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 1, 1);
+    }
+
+    /**
+     * Stops the repeating task of this ticker.
+     */
+    public void stop() {
+        if (task == null) return;
+
+        task.cancel();
+        task = null;
+    }
+
+    /**
+     * Returns the amount of bound boards. Destroyed boards are unbound first.
+     *
+     * @return The amount of boards
+     */
+    public int size() {
+        bindings.keySet().removeIf(PlexBoard::destroyed);
+        return bindings.size();
+    }
+
+    // MARK: Internal API
+
+    /**
+     * Sets the observable frames and updates all boards having an animation whose visible frame changed in the current tick.
+     * Updated boards start a new render cycle, so frames shared between their scoreboards are not reused. Destroyed boards are unbound.
+     */
+    private void tick() {
+        int tick = Bukkit.getCurrentTick();
+
+        observed.forEach((animation, frame) -> {
+            if (animation.changes(tick)) frame.set(animation.frame(tick));
+        });
+
+        BoardScheduler scheduler = this.scheduler;
+        bindings.forEach((board, animations) -> {
+            if (board.destroyed()) {
+                bindings.remove(board);
+                return;
+            }
+
+            if (!changes(animations, tick)) return;
+
+            if (scheduler != null) scheduler.queue(board);
+            else update(board);
+        });
+    }
+
+    /**
+     * Starts a new render cycle of the board and updates all of its scoreboards right away.
+     *
+     * @param board The board to update
+     */
+    private void update(@NotNull PlexBoard board) {
+        board.nextCycle();
+        for (Scoreboard scoreboard : board.scoreboards()) {
+            try {
+                board.updateScoreboard(scoreboard);
+
+            } catch (LineTooLongException | NotTranslatableException | RuntimeException exception) {
+                plugin.getLogger().log(Level.WARNING, "Could not animate a scoreboard", exception);
+            }
+        }
+    }
+
+    /**
+     * Returns whether the visible frame of any of the animations changes in the tick.
+     *
+     * @param animations The animations
+     * @param tick       The tick
+     * @return {@code true} if a frame changes. Otherwise, {@code false}.
+     */
+    private boolean changes(@NotNull List<Animation> animations, int tick) {
+        for (Animation animation : animations) {
+            if (animation.changes(tick)) return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,221 @@
+package eu.syplex.scoreboard;
+
+import eu.syplex.common.exception.NotTranslatableException;
+import eu.syplex.scoreboard.exception.LineTooLongException;
+import eu.syplex.scoreboard.render.BoardStateStore;
+import eu.syplex.scoreboard.render.SidebarFrame;
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitTask;
+import org.bukkit.scoreboard.Scoreboard;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+
+/**
+ * Represents a pipeline rendering the lines of {@link PlexBoard}s on a worker pool. <br>
+ * The title and line suppliers of a board are called off the main thread and produce immutable {@link SidebarFrame}s.
+ * Only applying the changed team prefixes and suffixes happens on the main thread, in one batch per tick.
+ * Therefore, the suppliers of boards rendered by this pipeline must be thread safe.
+ *
+ * @version 1.0.0
+ * @since 1.3.0
+ */
+public class AsyncBoardRenderer {
+
+    private final JavaPlugin plugin;
+    private final ExecutorService executor;
+    private final boolean ownsExecutor;
+
+    private final Set<Render> rendering = ConcurrentHashMap.newKeySet();
+    private final Queue<Rendered> rendered = new ConcurrentLinkedQueue<>();
+
+    private BukkitTask task;
+
+    /**
+     * Instantiates a new {@link AsyncBoardRenderer} with the instance of the plugins main class and its own worker pool.
+     * The pool is shut down when the renderer is stopped.
+     *
+     * @param plugin The plugins main class instance
+     */
+    public AsyncBoardRenderer(@NotNull JavaPlugin plugin) {
+        this(plugin, Executors.newFixedThreadPool(Math.max(1, Runtime.getRuntime().availableProcessors() / 2), new WorkerFactory()), true);
+    }
+
+    /**
+     * Instantiates a new {@link AsyncBoardRenderer} with the instance of the plugins main class and an executor to render on.
+     * The executor is not shut down when the renderer is stopped.
+     *
+     * @param plugin   The plugins main class instance
+     * @param executor The executor to render on
+     */
+    public AsyncBoardRenderer(@NotNull JavaPlugin plugin, @NotNull ExecutorService executor) {
+        this(plugin, executor, false);
+    }
+
+    private AsyncBoardRenderer(@NotNull JavaPlugin plugin, @NotNull ExecutorService executor, boolean ownsExecutor) {
+        this.plugin = plugin;
+        this.executor = executor;
+        this.ownsExecutor = ownsExecutor;
+    }
+
+    // MARK: Public API
+
+    /**
+     * Starts the task applying rendered frames on the main thread if not running yet. Must be called on the main thread.
+     */
+    public void start() {
+        if (task != null) return;
+        task = Bukkit.getScheduler().runTaskTimer(plugin, this::flush, 1, 1);
+    }
+
+    /**
+     * Stops the task applying rendered frames and drops all frames not applied yet, so scoreboards can be submitted again after a restart.
+     * The own worker pool is shut down.
+     */
+    public void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+
+        if (ownsExecutor) executor.shutdownNow();
+        rendering.clear();
+        rendered.clear();
+    }
+
+    /**
+     * Starts a new render cycle of the board and renders all of its scoreboards asynchronously. Must be called on the main thread.
+     *
+     * @param board The board to render
+     */
+    public void submit(@NotNull PlexBoard board) {
+        board.nextCycle();
+        for (Scoreboard scoreboard : board.scoreboards()) {
+            submit(board, scoreboard);
+        }
+    }
+
+    /**
+     * Renders a single scoreboard of the board asynchronously. Nothing happens if the scoreboard is still being rendered.
+     *
+     * @param board      The board
+     * @param scoreboard The scoreboard to render
+     */
+    public void submit(@NotNull PlexBoard board, @NotNull Scoreboard scoreboard) {
+        Render render = new Render(board, scoreboard);
+        if (!rendering.add(render)) return;
+
+        try {
+            executor.execute(() -> render(render));
+
+        } catch (RejectedExecutionException exception) {
+            rendering.remove(render);
+        }
+    }
+
+    /**
+     * Returns the amount of scoreboards currently rendered or waiting to be applied.
+     *
+     * @return The amount of pending scoreboards
+     */
+    public int pending() {
+        return rendering.size() + rendered.size();
+    }
+
+    // MARK: Internal API
+
+    /**
+     * Renders a scoreboard on the worker pool and queues the frame to be applied together with the generation and the frame it was rendered on top of.
+     * Every exception of the suppliers of the board is logged, so it does not reach the uncaught exception handler of the worker.
+     *
+     * @param render The scoreboard to render
+     */
+    private void render(@NotNull Render render) {
+        try {
+            BoardStateStore states = render.board().states();
+            long generation = states.generation(render.scoreboard());
+            SidebarFrame base = states.frame(render.scoreboard());
+
+            SidebarFrame frame = render.board().render(render.scoreboard());
+            if (frame != null) rendered.add(new Rendered(render, generation, base, frame));
+
+        } catch (LineTooLongException | NotTranslatableException | RuntimeException exception) {
+            plugin.getLogger().log(Level.WARNING, "Could not render a scoreboard", exception);
+
+        } finally {
+            rendering.remove(render);
+        }
+    }
+
+    /**
+     * Applies all frames rendered since the last tick on the main thread.
+     * A frame is dropped if another frame was applied to its scoreboard since it was rendered, so an older render never overwrites a newer one.
+     * It is dropped as well if the scoreboard was released and tracked again, e.g. for another player taking it from a {@link ScoreboardPool}.
+     * A frame failing to apply is logged without keeping the other frames from being applied.
+     */
+    private void flush() {
+        Rendered next;
+        while ((next = rendered.poll()) != null) {
+            PlexBoard board = next.render().board();
+            Scoreboard scoreboard = next.render().scoreboard();
+
+            if (!board.renders(scoreboard)) continue;
+
+            BoardStateStore states = board.states();
+            if (states.generation(scoreboard) != next.generation() || states.frame(scoreboard) != next.base()) continue;
+
+            try {
+                board.commit(scoreboard, next.frame());
+
+            } catch (RuntimeException exception) {
+                plugin.getLogger().log(Level.WARNING, "Could not apply a scoreboard", exception);
+            }
+        }
+    }
+
+    /**
+     * Represents a scoreboard of a board to render.
+     *
+     * @param board      The board
+     * @param scoreboard The scoreboard
+     */
+    private record Render(@NotNull PlexBoard board, @NotNull Scoreboard scoreboard) {
+    }
+
+    /**
+     * Represents a rendered frame waiting to be applied.
+     *
+     * @param render     The rendered scoreboard
+     * @param generation The generation of the state of the scoreboard when it was rendered
+     * @param base       The frame applied to the scoreboard when it was rendered or null if nothing was applied yet
+     * @param frame      The frame
+     */
+    private record Rendered(@NotNull Render render, long generation, @Nullable SidebarFrame base, @NotNull SidebarFrame frame) {
+    }
+
+    /**
+     * Creates the daemon worker threads of the own pool.
+     */
+    private static class WorkerFactory implements ThreadFactory {
+
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(@NotNull Runnable runnable) {
+            Thread thread = new Thread(runnable, "PlexBoard Renderer #" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package eu.syplex.scoreboard;
+
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.UUID;
+
+/**
+ * Represents the environment a {@link PlexBoard} runs in, i.e. how it tells whether it is called on the main thread and how it looks up online players. <br>
+ * Boards use the {@link BukkitBoardEnvironment} by default. Tests and benchmarks without a server set their own environment on the board,
+ * e.g. together with the {@link eu.syplex.scoreboard.backend.RecordingSidebarBackend}.
+ *
+ * @version 1.0.0
+ * @since 1.3.0
+ * @see PlexBoard#environment(BoardEnvironment)
+ */
+public interface BoardEnvironment {
+
+    /**
+     * Returns whether the current thread is the main thread.
+     *
+     * @return {@code true} if called on the main thread. Otherwise, {@code false}.
+     */
+    boolean isPrimaryThread();
+
+    /**
+     * Returns the online player with the unique id. May be null if the player is not online.
+     *
+     * @param uuid The unique id of the player
+     * @return The player or null
+     */
+    @Nullable Player player(@NotNull UUID uuid);
+
+}
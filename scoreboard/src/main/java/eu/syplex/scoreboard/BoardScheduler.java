@@ -0,0 +1,289 @@
+package eu.syplex.scoreboard;
+
+import eu.syplex.common.Registry;
+import eu.syplex.common.exception.NotTranslatableException;
+import eu.syplex.scoreboard.exception.LineTooLongException;
+import org.bukkit.Bukkit;
+import org.bukkit.event.HandlerList;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitTask;
+import org.bukkit.scoreboard.Scoreboard;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.WeakHashMap;
+import java.util.logging.Level;
+
+/**
+ * Represents a central scheduler updating all registered {@link PlexBoard}s from one repeating task. <br>
+ * Every {@link #period} ticks all scoreboards of the registered boards are queued. The queue is spread round-robin
+ * across the ticks of the period and each tick stops as soon as its {@link #budget} in nanoseconds is used up.
+ * Updates left over are carried over to the next tick. With a {@link RefreshPolicy}, idle viewers are updated less often.
+ *
+ * @version 1.0.0
+ * @since 1.3.0
+ */
+public class BoardScheduler implements Registry<PlexBoard> {
+
+    private final JavaPlugin plugin;
+    private final List<PlexBoard> boards = new ArrayList<>();
+    private final LinkedHashSet<Update> pending = new LinkedHashSet<>();
+
+    private long period = 20;
+    private long budget = 2_000_000;
+    private long tick = 0;
+
+    private final Map<Scoreboard, Long> lastQueued = new WeakHashMap<>();
+
+    private @Nullable AsyncBoardRenderer renderer;
+    private @Nullable RefreshPolicy policy;
+    private BukkitTask task;
+
+    /**
+     * Instantiates a new {@link BoardScheduler} with the instance of the plugins main class.
+     *
+     * @param plugin The plugins main class instance
+     */
+    public BoardScheduler(@NotNull JavaPlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    // MARK: Public API
+
+    /**
+     * Registers a board to be updated by this scheduler. The plugin of this scheduler is set on the board, if it has none yet.
+     *
+     * @param toAdd The board to register
+     * @see PlexBoard#plugin(JavaPlugin)
+     */
+    @Override
+    public void register(@NotNull PlexBoard toAdd) {
+        if (toAdd.plugin() == null) toAdd.plugin(plugin);
+        if (!boards.contains(toAdd)) boards.add(toAdd);
+    }
+
+    /**
+     * Unregisters a board and drops all of its pending updates.
+     *
+     * @param toRemove The board to unregister
+     */
+    @Override
+    public void unregister(@NotNull PlexBoard toRemove) {
+        boards.remove(toRemove);
+        pending.removeIf(update -> update.board() == toRemove);
+    }
+
+    /**
+     * Starts a new render cycle of the board and queues all of its scoreboards out of turn, e.g. because an animation shown on it changed.
+     * The updates are processed within the {@link #budget} like all other updates. Scoreboards already pending keep their position.
+     * Must be called on the main thread.
+     *
+     * @param board The board to update
+     * @see AnimationTicker#scheduler(BoardScheduler)
+     */
+    public void queue(@NotNull PlexBoard board) {
+        board.nextCycle();
+        for (Scoreboard scoreboard : board.scoreboards()) {
+            pending.add(new Update(board, scoreboard));
+        }
+    }
+
+    /**
+     * Starts the repeating task of this scheduler if not running yet. Must be called on the main thread.
+     */
+    public void start() {
+        if (task != null) return;
+
+        task = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 1, 1);
+        if (policy != null) Bukkit.getPluginManager().registerEvents(policy, plugin);
+    }
+
+    /**
+     * Stops the repeating task of this scheduler and drops all pending updates.
+     */
+    public void stop() {
+        if (task == null) return;
+
+        task.cancel();
+        task = null;
+        if (policy != null) HandlerList.unregisterAll(policy);
+        pending.clear();
+        lastQueued.clear();
+    }
+
+    /**
+     * Configures the {@link #period} in ticks in which every scoreboard is updated once.
+     *
+     * @param period The new period
+     * @return The current instance
+     */
+    public BoardScheduler period(long period) {
+        this.period = Math.max(1, period);
+        return this;
+    }
+
+    /**
+     * Configures the {@link #budget} in nanoseconds a single tick may spend on updates.
+     *
+     * @param budget The new budget
+     * @return The current instance
+     */
+    public BoardScheduler budget(long budget) {
+        this.budget = budget;
+        return this;
+    }
+
+    /**
+     * Configures the {@link #renderer} used to render the lines off the main thread. If null, boards are updated on the main thread.
+     *
+     * @param renderer The new renderer or null
+     * @return The current instance
+     */
+    public BoardScheduler renderer(@Nullable AsyncBoardRenderer renderer) {
+        this.renderer = renderer;
+        return this;
+    }
+
+    /**
+     * Configures the {@link #policy} adapting how often the scoreboard of a single viewer is updated. If null, every scoreboard is updated once per period.
+     * The policy is registered as listener while the scheduler is running.
+     *
+     * @param policy The new policy or null
+     * @return The current instance
+     */
+    public BoardScheduler policy(@Nullable RefreshPolicy policy) {
+        if (task != null && this.policy != null) HandlerList.unregisterAll(this.policy);
+        if (task != null && policy != null) Bukkit.getPluginManager().registerEvents(policy, plugin);
+
+        this.policy = policy;
+        return this;
+    }
+
+    /**
+     * Returns the configured {@link #policy}. May be null.
+     *
+     * @return The current policy or null
+     */
+    public @Nullable RefreshPolicy policy() {
+        return policy;
+    }
+
+    /**
+     * Returns the configured {@link #period} or {@code 20}.
+     *
+     * @return The current period
+     */
+    public long period() {
+        return period;
+    }
+
+    /**
+     * Returns the configured {@link #budget} or {@code 2000000}.
+     *
+     * @return The current budget
+     */
+    public long budget() {
+        return budget;
+    }
+
+    /**
+     * Returns the amount of updates waiting to be processed.
+     *
+     * @return The amount of pending updates
+     */
+    public int pending() {
+        return pending.size();
+    }
+
+    // MARK: Internal API
+
+    /**
+     * Processes the share of pending updates for the current tick until the budget is used up. At least one update is processed per tick.
+     */
+    private void tick() {
+        long start = System.nanoTime();
+
+        long cycleTick = tick++ % period;
+        if (cycleTick == 0) queueAll();
+        if (pending.isEmpty()) return;
+
+        long ticksLeft = period - cycleTick;
+        long quota = (pending.size() + ticksLeft - 1) / ticksLeft;
+
+        Iterator<Update> iterator = pending.iterator();
+        do {
+            Update update = iterator.next();
+            iterator.remove();
+            run(update);
+        } while (--quota > 0 && iterator.hasNext() && System.nanoTime() - start < budget);
+    }
+
+    /**
+     * Starts a new render cycle of all registered boards and queues all of their scoreboards which are due.
+     * Updates still pending from the last period keep their position.
+     */
+    private void queueAll() {
+        for (PlexBoard board : boards) {
+            board.nextCycle();
+            for (Scoreboard scoreboard : board.scoreboards()) {
+                if (due(board, scoreboard)) pending.add(new Update(board, scoreboard));
+            }
+        }
+    }
+
+    /**
+     * Returns whether a scoreboard is due to be updated according to the {@link #policy}. Without policy, every scoreboard is due.
+     *
+     * @param board      The board
+     * @param scoreboard The scoreboard
+     * @return {@code true} if the scoreboard is due. Otherwise, {@code false}.
+     */
+    private boolean due(@NotNull PlexBoard board, @NotNull Scoreboard scoreboard) {
+        if (policy == null) return true;
+
+        Collection<UUID> viewers = board.viewers(scoreboard);
+        if (viewers.size() != 1) return true;
+
+        long interval = policy.interval(viewers.iterator().next(), period);
+        Long last = lastQueued.get(scoreboard);
+        if (last != null && tick - last < interval) return false;
+
+        lastQueued.put(scoreboard, tick);
+        return true;
+    }
+
+    /**
+     * Runs a single update and logs it if it fails. If a {@link #renderer} is configured, the update is only submitted to it.
+     *
+     * @param update The update to run
+     */
+    private void run(@NotNull Update update) {
+        if (renderer != null) {
+            renderer.submit(update.board(), update.scoreboard());
+            return;
+        }
+
+        try {
+            update.board().updateScoreboard(update.scoreboard());
+
+        } catch (LineTooLongException | NotTranslatableException | RuntimeException exception) {
+            plugin.getLogger().log(Level.WARNING, "Could not update a scoreboard", exception);
+        }
+    }
+
+    /**
+     * Represents a pending update of a single scoreboard of a board.
+     *
+     * @param board      The board
+     * @param scoreboard The scoreboard to update
+     */
+    private record Update(@NotNull PlexBoard board, @NotNull Scoreboard scoreboard) {
+    }
+}
@@ -0,0 +1,57 @@
+package eu.syplex.scoreboard;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.UUID;
+
+/**
+ * Represents the default {@link BoardEnvironment} asking the bukkit server for the main thread and online players.
+ *
+ * @version 1.0.0
+ * @since 1.3.0
+ */
+public class BukkitBoardEnvironment implements BoardEnvironment {
+
+    private static BukkitBoardEnvironment bukkitEnvironment = null;
+
+    /**
+     * Instantiates a new singleton {@link BukkitBoardEnvironment}.
+     */
+    private BukkitBoardEnvironment() {
+        bukkitEnvironment = this;
+    }
+
+    /**
+     * Returns the singleton instance of the {@link BukkitBoardEnvironment}.
+     *
+     * @return The singleton instance
+     */
+    public static BukkitBoardEnvironment bukkitEnvironment() {
+        if (bukkitEnvironment == null) bukkitEnvironment = new BukkitBoardEnvironment();
+        return bukkitEnvironment;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@code true} if called on the main thread of the server. Otherwise, {@code false}.
+     */
+    @Override
+    public boolean isPrimaryThread() {
+        return Bukkit.isPrimaryThread();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param uuid The unique id of the player
+     * @return The player or null
+     */
+    @Override
+    public @Nullable Player player(@NotNull UUID uuid) {
+        return Bukkit.getPlayer(uuid);
+    }
+}
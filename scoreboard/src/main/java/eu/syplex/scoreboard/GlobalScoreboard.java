@@ -1,27 +1,33 @@
 package eu.syplex.scoreboard;
 
 import eu.syplex.common.exception.NotTranslatableException;
+import eu.syplex.scoreboard.backend.VirtualScoreboard;
+import eu.syplex.scoreboard.backend.VirtualSidebarBackend;
 import eu.syplex.scoreboard.exception.LineTooLongException;
+import eu.syplex.scoreboard.render.LineTemplate;
 import net.kyori.adventure.text.Component;
-import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.bukkit.scoreboard.Scoreboard;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 /**
  * Represents a {@link PlexBoard} visible for all players on the paper server.
  *
- * @version 1.0.0
+ * @version 1.1.0
  * @since 1.2.0
  */
 public class GlobalScoreboard extends PlexBoard {
 
     private @NotNull Supplier<Component> title;
     private @NotNull Supplier<List<String>> lines;
+    private @Nullable Supplier<List<Component>> components;
 
     private Scoreboard scoreboard;
 
@@ -36,6 +42,35 @@ public class GlobalScoreboard extends PlexBoard {
         this.lines = lines;
     }
 
+    /**
+     * Creates a new {@link GlobalScoreboard} with suppliers for the title and lines as components.
+     * The components are used as they are, without being translated or split.
+     *
+     * @param title The title
+     * @param lines The list of lines
+     * @return The scoreboard
+     */
+    public static @NotNull GlobalScoreboard ofComponents(@NotNull Supplier<Component> title, @NotNull Supplier<List<Component>> lines) {
+        GlobalScoreboard scoreboard = new GlobalScoreboard(title, List::of);
+        scoreboard.components(lines);
+        return scoreboard;
+    }
+
+    /**
+     * Creates a new {@link GlobalScoreboard} with a supplier for the title and compiled line templates.
+     * Updating the scoreboard only evaluates the placeholders of the templates.
+     *
+     * @param title    The title
+     * @param lines    The list of line templates
+     * @param resolver The resolver returning the value of a placeholder by its name
+     * @return The scoreboard
+     * @see LineTemplate#compile(String)
+     */
+    public static @NotNull GlobalScoreboard ofTemplates(@NotNull Supplier<Component> title, @NotNull List<LineTemplate> lines, @NotNull Function<@NotNull String, @Nullable Object> resolver) {
+        List<LineTemplate> templates = List.copyOf(lines);
+        return ofComponents(title, () -> LineTemplate.render(templates, resolver));
+    }
+
     // MARK: Public API
 
     /**
@@ -47,49 +82,48 @@ public class GlobalScoreboard extends PlexBoard {
      */
     public void updateScoreboard() throws NotTranslatableException, LineTooLongException {
         createIfNull();
-        updateScoreboard(toBukkitScoreboard(), lines.get());
+        updateScoreboard(scoreboard);
     }
 
     /**
-     * {@inheritDoc}
+     * Gets this scoreboard as a bukkit {@link Scoreboard}. May be null if it was not created yet
+     * or the {@link eu.syplex.scoreboard.backend.SidebarBackend} does not show a bukkit scoreboard, e.g. the {@link VirtualSidebarBackend}.
      *
-     * @param player The player to add
-     * @throws NotTranslatableException Thrown if a line could not be translated into a {@link Component}
-     * @throws LineTooLongException     Thrown if a line is longer than the maximum of allowed chars
-     * @see #updateScoreboard()
+     * @return A bukkit scoreboard or null
      */
-    @Override
-    public void addPlayer(@NotNull Player player) throws NotTranslatableException, LineTooLongException {
-        super.addPlayer(player);
-
-        createIfNull();
-        player.setScoreboard(scoreboard);
+    public @Nullable Scoreboard toBukkitScoreboard() {
+        return scoreboard == null || VirtualScoreboard.isVirtual(scoreboard) ? null : scoreboard;
     }
 
+    // MARK: Internal API
+
     /**
-     * Gets this scoreboard as a bukkit {@link Scoreboard}.
+     * {@inheritDoc}
+     * The shared scoreboard is created if not present and shown to the player.
      *
-     * @return A bukkit scoreboard
+     * @param player The added player
+     * @see #updateScoreboard()
      */
-    public Scoreboard toBukkitScoreboard() {
-        return scoreboard;
+    @Override
+    protected void join(@NotNull Player player) {
+        createIfNull();
+        show(player, scoreboard);
     }
 
-    // MARK: Internal API
-
     /**
-     * Creates a bukkit scoreboard for this implementation to use if not present.
+     * Creates a scoreboard for this implementation to use through the {@link eu.syplex.scoreboard.backend.SidebarBackend} if not present.
      */
     private void createIfNull() {
         if (scoreboard != null) return;
 
-        scoreboard = Bukkit.getScoreboardManager().getNewScoreboard();
+        scoreboard = backend().scoreboard();
+        states().track(null, scoreboard);
 
         for (UUID uuid : associatedPlayers()) {
-            Player player = Bukkit.getPlayer(uuid);
+            Player player = environment().player(uuid);
             if (player == null) continue;
 
-            player.setScoreboard(scoreboard);
+            show(player, scoreboard);
         }
     }
 
@@ -102,6 +136,15 @@ public class GlobalScoreboard extends PlexBoard {
         this.lines = lines;
     }
 
+    /**
+     * Sets the lines of the scoreboard to the list of components supplied by this method. These take precedence over the legacy lines.
+     *
+     * @param components The list of lines as components or null to use the legacy lines again
+     */
+    protected void components(@Nullable Supplier<List<Component>> components) {
+        this.components = components;
+    }
+
     /**
      * Sets the title of the scoreboard to the new value supplied by this method.
      *
@@ -121,4 +164,47 @@ public class GlobalScoreboard extends PlexBoard {
     protected @NotNull Component title(Scoreboard scoreboard) {
         return title.get();
     }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param scoreboard The scoreboard
+     * @return The lines of the scoreboard
+     */
+    @Override
+    protected @NotNull List<String> lines(Scoreboard scoreboard) {
+        return lines.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param scoreboard The scoreboard
+     * @return The lines of the scoreboard as components or null if only legacy lines are supplied
+     */
+    @Override
+    protected @Nullable List<Component> components(Scoreboard scoreboard) {
+        return components == null ? null : components.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param player The player
+     * @return The shared scoreboard or null if it was not created yet
+     */
+    @Override
+    protected @Nullable Scoreboard scoreboard(@NotNull UUID player) {
+        return scoreboard;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return The shared scoreboard or an empty list if it was not created yet
+     */
+    @Override
+    protected @NotNull Collection<Scoreboard> scoreboards() {
+        return scoreboard == null ? List.of() : List.of(scoreboard);
+    }
 }
@@ -0,0 +1,124 @@
+package eu.syplex.scoreboard;
+
+import eu.syplex.common.exception.NotTranslatableException;
+import eu.syplex.scoreboard.exception.LineTooLongException;
+import eu.syplex.scoreboard.render.SidebarFrame;
+import eu.syplex.scoreboard.render.SidebarLine;
+import net.kyori.adventure.text.Component;
+import org.bukkit.entity.Player;
+import org.bukkit.scoreboard.Scoreboard;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Represents a {@link PersonalPlexBoard} made of a shared section on top, identical for all players, and a personal overlay below. <br>
+ * The shared section is evaluated and rendered only once per render cycle and its rendered lines are reused by reference on the boards of all players.
+ * Only the overlay is evaluated per player. A render key is not used by this board. <br>
+ * A new render cycle is started by every update of the whole board, by a {@link BoardScheduler} or {@link AsyncBoardRenderer} and
+ * by {@link #updateScoreboard(Player)}, so updating a single player evaluates the shared section again as well.
+ *
+ * @version 1.0.0
+ * @since 1.3.0
+ */
+public class LayeredPlexBoard extends PersonalPlexBoard {
+
+    private final @NotNull Supplier<@NotNull List<String>> shared;
+    private final @NotNull Function<@NotNull Player, @NotNull List<String>> overlay;
+
+    private volatile Section section;
+
+    /**
+     * Instantiates a new {@link LayeredPlexBoard} from functions to generate the title, the shared section and the personal overlay.
+     *
+     * @param title   The function to generate the title. The player is the receiver of the board
+     * @param shared  The supplier of the shared lines on top
+     * @param overlay The function to generate the personal lines below the shared ones. The player is the receiver of the board
+     */
+    public LayeredPlexBoard(@NotNull Function<@NotNull Player, @NotNull Component> title, @NotNull Supplier<@NotNull List<String>> shared, @NotNull Function<@NotNull Player, @NotNull List<String>> overlay) {
+        super(title, player -> List.of());
+        this.shared = shared;
+        this.overlay = overlay;
+    }
+
+    // MARK: Internal API
+
+    /**
+     * {@inheritDoc}
+     * The shared section is taken from the current render cycle if already rendered for another player, so only the overlay is rendered for this one.
+     *
+     * @param scoreboard The scoreboard to render
+     * @return The rendered frame or null if the player of the board is not online
+     * @throws LineTooLongException     Thrown if a line was too long
+     * @throws NotTranslatableException Thrown if the line cannot be translated into a component
+     */
+    @Override
+    protected @Nullable SidebarFrame render(Scoreboard scoreboard) throws LineTooLongException, NotTranslatableException {
+        UUID uuid = states().owner(scoreboard);
+        Player player = uuid == null ? null : environment().player(uuid);
+        if (player == null) return null;
+
+        Section section = section();
+        List<String> overlayLines = overlay.apply(player);
+        Component title = title(scoreboard);
+
+        List<?> source = List.of(section.source(), overlayLines);
+        SidebarFrame previous = states().frame(scoreboard);
+
+        if (previous != null && previous.source().equals(source)) {
+            return previous.title().equals(title) ? previous : new SidebarFrame(title, previous.source(), previous.lines());
+        }
+
+        List<SidebarLine> lines = new ArrayList<>(section.lines().size() + overlayLines.size());
+        lines.addAll(section.lines());
+
+        for (String line : overlayLines) {
+            lines.add(renderLine(line));
+        }
+        return new SidebarFrame(title, source, lines);
+    }
+
+    /**
+     * Returns the shared section of the current render cycle. It is only evaluated and rendered for the first player of a cycle
+     * and reused for all players rendered later in the same cycle, e.g. players joining the board.
+     * If the shared lines did not change since the last cycle, the rendered lines of it are kept.
+     *
+     * @return The shared section
+     * @throws LineTooLongException Thrown if a line was too long
+     */
+    private @NotNull Section section() throws LineTooLongException {
+        long cycle = cycle();
+
+        Section current = section;
+        if (current != null && current.cycle() == cycle) return current;
+
+        List<String> source = List.copyOf(shared.get());
+        if (current != null && current.source().equals(source)) {
+            section = new Section(cycle, current.source(), current.lines());
+            return section;
+        }
+
+        List<SidebarLine> lines = new ArrayList<>(source.size());
+        for (String line : source) {
+            lines.add(renderLine(line));
+        }
+
+        section = new Section(cycle, source, List.copyOf(lines));
+        return section;
+    }
+
+    /**
+     * Represents the shared section rendered in a render cycle.
+     *
+     * @param cycle  The render cycle the section was evaluated in
+     * @param source The shared lines
+     * @param lines  The rendered shared lines
+     */
+    private record Section(long cycle, @NotNull List<String> source, @NotNull List<SidebarLine> lines) {
+    }
+}
@@ -1,33 +1,42 @@
 package eu.syplex.scoreboard;
 
 import eu.syplex.common.exception.NotTranslatableException;
+import eu.syplex.scoreboard.backend.BukkitSidebarBackend;
+import eu.syplex.scoreboard.backend.VirtualScoreboard;
+import eu.syplex.scoreboard.backend.VirtualSidebarBackend;
 import eu.syplex.scoreboard.exception.LineTooLongException;
+import eu.syplex.scoreboard.render.LineTemplate;
+import eu.syplex.scoreboard.render.SidebarFrame;
 import net.kyori.adventure.text.Component;
 import org.apache.commons.lang3.Validate;
-import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.bukkit.scoreboard.Scoreboard;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.HashMap;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 
 /**
  * Represents a {@link PlexBoard} visible only for a specific player.
  *
- * @version 1.0.0
+ * @version 1.1.0
  * @since 1.2.0
  */
 public class PersonalPlexBoard extends PlexBoard {
 
     private @NotNull Function<@NotNull Player, @NotNull Component> title;
     private @NotNull Function<@NotNull Player, @NotNull List<String>> lines;
+    private @Nullable Function<@NotNull Player, @NotNull List<Component>> components;
+    private @Nullable Function<@NotNull Player, ?> renderKey;
+    private @Nullable ScoreboardPool pool;
 
-    private final Map<UUID, Scoreboard> scoreboards = new HashMap<>();
+    private final Map<Object, GroupFrame> groups = new ConcurrentHashMap<>();
 
     /**
      * Instantiates a new {@link PersonalPlexBoard} from functions to generate the title and lines.
@@ -41,60 +50,114 @@ public class PersonalPlexBoard extends PlexBoard {
     }
 
     /**
-     * Updates the content of the scoreboard.
+     * Instantiates a new {@link PersonalPlexBoard} from functions to generate the title and lines and a function to group players by.
+     * Players with an equal render key share one evaluated and rendered frame per render cycle, so the title and lines must only depend on the key.
+     *
+     * @param title     The function to generate the title. The player is the receiver of the board
+     * @param lines     The function to generate the lines. The player is the receiver of the board
+     * @param renderKey The function to generate the render key, e.g. the team color, locale or rank of the player
+     */
+    public PersonalPlexBoard(@NotNull Function<@NotNull Player, @NotNull Component> title, @NotNull Function<@NotNull Player, @NotNull List<String>> lines, @NotNull Function<@NotNull Player, ?> renderKey) {
+        this(title, lines);
+        this.renderKey = renderKey;
+    }
+
+    /**
+     * Creates a new {@link PersonalPlexBoard} from functions to generate the title and lines as components.
+     * The components are used as they are, without being translated or split.
+     *
+     * @param title The function to generate the title. The player is the receiver of the board
+     * @param lines The function to generate the lines. The player is the receiver of the board
+     * @return The scoreboard
+     */
+    public static @NotNull PersonalPlexBoard ofComponents(@NotNull Function<@NotNull Player, @NotNull Component> title, @NotNull Function<@NotNull Player, @NotNull List<Component>> lines) {
+        PersonalPlexBoard scoreboard = new PersonalPlexBoard(title, player -> List.of());
+        scoreboard.components(lines);
+        return scoreboard;
+    }
+
+    /**
+     * Creates a new {@link PersonalPlexBoard} from a function to generate the title and compiled line templates.
+     * Updating a board only evaluates the placeholders of the templates for its player.
+     *
+     * @param title    The function to generate the title. The player is the receiver of the board
+     * @param lines    The list of line templates
+     * @param resolver The resolver returning the value of a placeholder by the receiver of the board and the name of the placeholder
+     * @return The scoreboard
+     * @see LineTemplate#compile(String)
+     */
+    public static @NotNull PersonalPlexBoard ofTemplates(@NotNull Function<@NotNull Player, @NotNull Component> title, @NotNull List<LineTemplate> lines, @NotNull BiFunction<@NotNull Player, @NotNull String, @Nullable Object> resolver) {
+        List<LineTemplate> templates = List.copyOf(lines);
+        return ofComponents(title, player -> LineTemplate.render(templates, name -> resolver.apply(player, name)));
+    }
+
+    /**
+     * Starts a new render cycle and updates the content of the scoreboard of all players.
      *
      * @throws NotTranslatableException Thrown if a line could not be translated into a {@link Component}
      * @throws LineTooLongException     Thrown if a line is longer than the maximum of allowed chars
      * @see PlexBoard#updateScoreboard(Scoreboard, List)
      */
     public void updateScoreboard() throws NotTranslatableException, LineTooLongException {
+        nextCycle();
+
         for (UUID uuid : associatedPlayers()) {
-            Player player = Bukkit.getPlayer(uuid);
+            Player player = environment().player(uuid);
             if (player == null) continue;
 
-            List<String> lines = this.lines.apply(player);
-            updateScoreboard(player.getScoreboard(), lines);
+            update(player);
         }
     }
 
     /**
-     * {@inheritDoc}
+     * Starts a new render cycle and updates the content of the scoreboard of a single player only. Nothing happens if the player has no personal board. <br>
+     * Since a new cycle is started, results shared between players, e.g. the frame of a render key, are rendered again instead of being reused.
      *
-     * @param player The player to add
+     * @param player The player whose board should be updated
      * @throws NotTranslatableException Thrown if a line could not be translated into a {@link Component}
      * @throws LineTooLongException     Thrown if a line is longer than the maximum of allowed chars
-     * @see #updateScoreboard()
+     * @see PlexBoard#updateScoreboard(Scoreboard, List)
      */
-    @Override
-    public void addPlayer(@NotNull Player player) throws NotTranslatableException, LineTooLongException {
-        associatedPlayers().add(player.getUniqueId());
+    public void updateScoreboard(@NotNull Player player) throws NotTranslatableException, LineTooLongException {
+        nextCycle();
+        update(player);
+    }
 
-        Scoreboard scoreboard = Bukkit.getScoreboardManager().getNewScoreboard();
-        player.setScoreboard(scoreboard);
-        scoreboards.put(player.getUniqueId(), scoreboard);
+    /**
+     * {@inheritDoc}
+     * The frames shared by groups of players are released as well and all personal scoreboards are returned to the pool, if one is set.
+     */
+    @Override
+    public void destroy() {
+        Collection<Scoreboard> scoreboards = states().scoreboards();
 
-        updateScoreboard();
+        super.destroy();
+        groups.clear();
+        scoreboards.forEach(this::recycle);
     }
 
     /**
-     * {@inheritDoc}
+     * Sets the pool personal scoreboards are taken from when a player is added and returned to when a player is removed.
+     * A pool can be shared by multiple boards. It is only used with the {@link BukkitSidebarBackend}, other backends create their own scoreboards.
      *
-     * @param player The player to remove
+     * @param pool The pool or null to create a new scoreboard for every player
+     * @return The current instance
      */
-    @Override
-    public void removePlayer(@NotNull Player player) {
-        super.removePlayer(player);
-        scoreboards.remove(player.getUniqueId());
+    public PersonalPlexBoard pool(@Nullable ScoreboardPool pool) {
+        this.pool = pool;
+        return this;
     }
 
     /**
-     * Gets the {@link PersonalPlexBoard} as a bukkit {@link Scoreboard}. May be null if the player has no personal board.
+     * Gets the {@link PersonalPlexBoard} as a bukkit {@link Scoreboard}. May be null if the player has no personal board
+     * or the {@link eu.syplex.scoreboard.backend.SidebarBackend} does not show a bukkit scoreboard, e.g. the {@link VirtualSidebarBackend}.
      *
      * @param player The player to which the scoreboard belongs to
-     * @return The bukkit scoreboard
+     * @return The bukkit scoreboard or null
      */
     public @Nullable Scoreboard toBukkitScoreboard(@NotNull Player player) {
-        return scoreboards.get(player.getUniqueId());
+        Scoreboard scoreboard = states().scoreboard(player.getUniqueId());
+        return scoreboard == null || VirtualScoreboard.isVirtual(scoreboard) ? null : scoreboard;
     }
 
     /**
@@ -106,6 +169,25 @@ public class PersonalPlexBoard extends PlexBoard {
         this.lines = lines;
     }
 
+    /**
+     * Sets the lines to the given function generating components. These take precedence over the legacy lines.
+     *
+     * @param components The function to generate the lines as components or null to use the legacy lines again
+     */
+    protected void components(@Nullable Function<@NotNull Player, @NotNull List<Component>> components) {
+        this.components = components;
+    }
+
+    /**
+     * Sets the function to group players by. Players with an equal render key share one evaluated and rendered frame per render cycle.
+     *
+     * @param renderKey The function to generate the render key or null to render every player on its own
+     */
+    protected void renderKey(@Nullable Function<@NotNull Player, ?> renderKey) {
+        this.renderKey = renderKey;
+        groups.clear();
+    }
+
     /**
      * Sets the title to the given new one.
      *
@@ -115,6 +197,39 @@ public class PersonalPlexBoard extends PlexBoard {
         this.title = title;
     }
 
+    /**
+     * {@inheritDoc}
+     * A personal scoreboard is created by the {@link eu.syplex.scoreboard.backend.SidebarBackend} or taken from the pool and shown to the player.
+     * Only the board of the joining player is rendered in the current render cycle, the boards of all other players stay untouched.
+     *
+     * @param player The added player
+     * @throws NotTranslatableException Thrown if a line could not be translated into a {@link Component}
+     * @throws LineTooLongException     Thrown if a line is longer than the maximum of allowed chars
+     * @see #updateScoreboard(Player)
+     */
+    @Override
+    protected void join(@NotNull Player player) throws NotTranslatableException, LineTooLongException {
+        Scoreboard scoreboard = pooled() ? pool.acquire() : backend().scoreboard();
+        recycle(states().track(player.getUniqueId(), scoreboard));
+        show(player, scoreboard);
+
+        update(player);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The render state of the personal scoreboard of the player is released and the scoreboard is returned to the pool, if one is set.
+     *
+     * @param player The removed player
+     */
+    @Override
+    protected void leave(@NotNull Player player) {
+        if (hasPlayer(player.getUniqueId())) return;
+
+        super.leave(player);
+        recycle(states().release(player.getUniqueId()));
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -130,21 +245,138 @@ public class PersonalPlexBoard extends PlexBoard {
     }
 
     /**
-     * Gets the player by the scoreboard. May be null.
+     * {@inheritDoc}
+     * If a render key is set, the frame is only rendered for the first player of a group in the current render cycle and reused for all other players of it.
+     *
+     * @param scoreboard The scoreboard to render
+     * @return The rendered frame or null if the player of the board is not online
+     * @throws LineTooLongException     Thrown if a line was too long
+     * @throws NotTranslatableException Thrown if the line cannot be translated into a component
+     */
+    @Override
+    protected @Nullable SidebarFrame render(Scoreboard scoreboard) throws LineTooLongException, NotTranslatableException {
+        Function<@NotNull Player, ?> renderKey = this.renderKey;
+        if (renderKey == null) return super.render(scoreboard);
+
+        Player player = playerFromScoreboard(scoreboard);
+        if (player == null) return null;
+
+        Object key = renderKey.apply(player);
+        long cycle = cycle();
+
+        GroupFrame group = groups.get(key);
+        if (group != null && group.cycle() == cycle) return group.frame();
+
+        SidebarFrame frame = super.render(scoreboard);
+        if (frame != null) groups.put(key, new GroupFrame(cycle, frame));
+
+        return frame;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Frames shared by groups of players in older render cycles are evicted.
+     */
+    @Override
+    protected void nextCycle() {
+        super.nextCycle();
+
+        long cycle = cycle();
+        groups.values().removeIf(group -> group.cycle() < cycle);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param scoreboard The scoreboard
+     * @return The lines of the board or null if the player of the board is not online
+     */
+    @Override
+    protected @Nullable List<String> lines(Scoreboard scoreboard) {
+        Player player = playerFromScoreboard(scoreboard);
+        if (player == null) return null;
+
+        return lines.apply(player);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param scoreboard The scoreboard
+     * @return The lines of the board as components or null if only legacy lines are generated or the player of the board is not online
+     */
+    @Override
+    protected @Nullable List<Component> components(Scoreboard scoreboard) {
+        if (components == null) return null;
+
+        Player player = playerFromScoreboard(scoreboard);
+        if (player == null) return null;
+
+        return components.apply(player);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param scoreboard The scoreboard
+     * @return The player owning the personal scoreboard or an empty list if it is not tracked
+     */
+    @Override
+    protected @NotNull Collection<UUID> viewers(Scoreboard scoreboard) {
+        UUID owner = states().owner(scoreboard);
+        return owner == null ? List.of() : List.of(owner);
+    }
+
+    /**
+     * Updates the content of the scoreboard of a single player in the current render cycle. Nothing happens if the player has no personal board.
+     *
+     * @param player The player whose board should be updated
+     * @throws NotTranslatableException Thrown if a line could not be translated into a {@link Component}
+     * @throws LineTooLongException     Thrown if a line is longer than the maximum of allowed chars
+     */
+    private void update(@NotNull Player player) throws NotTranslatableException, LineTooLongException {
+        Scoreboard scoreboard = states().scoreboard(player.getUniqueId());
+        if (scoreboard == null) return;
+
+        updateScoreboard(scoreboard);
+    }
+
+    /**
+     * Gets the player by the scoreboard using the reverse index of the state store. May be null.
      *
      * @param scoreboard The scoreboard
      * @return The player that belongs to that board
      */
     private @Nullable Player playerFromScoreboard(Scoreboard scoreboard) {
-        if (!scoreboards.containsValue(scoreboard)) return null;
-
-        Player player = null;
-        for (Map.Entry<UUID, Scoreboard> entry : scoreboards.entrySet()) {
-            if (entry.getValue().equals(scoreboard)) {
-                player = Bukkit.getPlayer(entry.getKey());
-                break;
-            }
-        }
-        return player;
+        UUID uuid = states().owner(scoreboard);
+        return uuid == null ? null : environment().player(uuid);
+    }
+
+    /**
+     * Returns a released personal scoreboard to the pool. Nothing happens if no pool is used.
+     *
+     * @param scoreboard The released scoreboard or null
+     */
+    private void recycle(@Nullable Scoreboard scoreboard) {
+        if (!pooled() || scoreboard == null) return;
+        pool.release(scoreboard);
+    }
+
+    /**
+     * Returns whether personal scoreboards are taken from the pool. This is only the case if a pool is set and the bukkit backend is used.
+     *
+     * @return {@code true} if the pool is used. Otherwise, {@code false}.
+     */
+    private boolean pooled() {
+        return pool != null && backend() instanceof BukkitSidebarBackend;
+    }
+
+    /**
+     * Represents the frame rendered for a group of players in a render cycle.
+     *
+     * @param cycle The render cycle the frame was rendered in
+     * @param frame The rendered frame
+     */
+    private record GroupFrame(long cycle, @NotNull SidebarFrame frame) {
     }
 }
@@ -2,190 +2,606 @@ package eu.syplex.scoreboard;
 
 import eu.syplex.common.exception.NotTranslatableException;
 import eu.syplex.common.translator.ComponentTranslator;
+import eu.syplex.scoreboard.backend.BukkitSidebarBackend;
+import eu.syplex.scoreboard.backend.SidebarBackend;
 import eu.syplex.scoreboard.exception.LineTooLongException;
-import eu.syplex.scoreboard.util.LegacyColorUtil;
+import eu.syplex.scoreboard.reactive.LineSource;
+import eu.syplex.scoreboard.render.BoardStateStore;
+import eu.syplex.scoreboard.render.LineCache;
+import eu.syplex.scoreboard.render.SidebarFrame;
+import eu.syplex.scoreboard.render.SidebarLine;
 import net.kyori.adventure.text.Component;
-import org.apache.commons.lang3.StringUtils;
 import org.bukkit.Bukkit;
-import org.bukkit.ChatColor;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.java.JavaPlugin;
-import org.bukkit.scoreboard.*;
+import org.bukkit.scoreboard.Scoreboard;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
 
 /**
  * An abstract implementation of scoreboards.
  *
- * @version 1.0.0
+ * @version 1.1.0
  * @since 1.2.0
  */
 public abstract class PlexBoard {
 
-    private final List<UUID> associatedPlayers = new ArrayList<>();
-    private final Map<Scoreboard, List<String>> legacyLines = new HashMap<>();
+    private static final Set<PlexBoard> BOARDS = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+    private final Set<UUID> associatedPlayers = ConcurrentHashMap.newKeySet();
+    private volatile List<UUID> players = List.of();
+    private final BoardStateStore states = new BoardStateStore();
+
+    private final Queue<MainThreadTask> deferred = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    private final Set<Scoreboard> legacy = ConcurrentHashMap.newKeySet();
+
+    private final List<LineSource<?>> sources = new CopyOnWriteArrayList<>();
+    private final AtomicLong cycle = new AtomicLong();
+
+    private @NotNull SidebarBackend backend = BukkitSidebarBackend.bukkitBackend();
+    private @NotNull BoardEnvironment environment = BukkitBoardEnvironment.bukkitEnvironment();
+    private @Nullable JavaPlugin plugin;
+    private volatile boolean destroyed;
+
+    /**
+     * Instantiates a new {@link PlexBoard} and keeps track of it to release its players when they quit. <br>
+     * The {@link #plugin(JavaPlugin)} of the board defaults to the plugin providing its class, if it was loaded by a plugin.
+     * The {@link PlexBoardListener} releasing the players is registered for it as soon as the first player is added.
+     *
+     * @see PlexBoardListener
+     */
+    protected PlexBoard() {
+        this.plugin = providingPlugin(getClass());
+        BOARDS.add(this);
+    }
 
     // MARK: Public API
 
     /**
-     * Adds a player to the scoreboard if not present on it yet.
+     * Adds a player to the scoreboard if not present on it yet. This is safe to call from any thread. <br>
+     * The player is a member of the board right away, while showing the board to the player is deferred to the main thread if called off it.
+     * Deferring requires the {@link #plugin(JavaPlugin)} of the board to be set. Exceptions of a deferred setup are logged instead of thrown.
      *
      * @param player The player to add
      * @throws NotTranslatableException Thrown if a line could not be translated into a {@link Component}
      * @throws LineTooLongException     Thrown if a line is longer than the maximum of allowed chars
+     * @throws IllegalStateException    Thrown if called off the main thread while no plugin is set. The membership of the player is not changed then
+     * @see #join(Player)
      */
     public void addPlayer(@NotNull Player player) throws NotTranslatableException, LineTooLongException {
-        if (associatedPlayers.contains(player.getUniqueId())) return;
-        associatedPlayers.add(player.getUniqueId());
+        JavaPlugin plugin = this.plugin;
+        if (plugin != null) PlexBoardListener.register(plugin);
+
+        boolean primaryThread = environment.isPrimaryThread();
+        if (!primaryThread) requirePlugin();
+
+        if (!associate(player.getUniqueId())) return;
+
+        if (!primaryThread) {
+            defer(() -> {
+                if (hasPlayer(player.getUniqueId())) join(player);
+            });
+            return;
+        }
+
+        drain();
+        join(player);
     }
 
     /**
-     * Removes the player from the scoreboard if present on it and resets to the main bukkit board.
+     * Adds all given players to the scoreboard in one pass. Players already present on it are skipped.
+     *
+     * @param players The players to add
+     * @throws NotTranslatableException Thrown if a line could not be translated into a {@link Component}
+     * @throws LineTooLongException     Thrown if a line is longer than the maximum of allowed chars
+     * @see #addPlayer(Player)
+     */
+    public void addPlayers(@NotNull Collection<? extends Player> players) throws NotTranslatableException, LineTooLongException {
+        for (Player player : players) {
+            addPlayer(player);
+        }
+    }
+
+    /**
+     * Removes the player from the scoreboard if present on it and hides the sidebar from the player through the {@link SidebarBackend}.
+     * With the default backend, the player is reset to the main bukkit board. This is safe to call from any thread.
+     * Deferring requires the {@link #plugin(JavaPlugin)} of the board to be set.
      *
      * @param player The player to remove
+     * @throws IllegalStateException Thrown if called off the main thread while no plugin is set. The membership of the player is not changed then
+     * @see #leave(Player)
      */
     public void removePlayer(@NotNull Player player) {
-        associatedPlayers.remove(player.getUniqueId());
-        player.setScoreboard(Bukkit.getScoreboardManager().getMainScoreboard());
+        boolean primaryThread = environment.isPrimaryThread();
+        if (!primaryThread) requirePlugin();
+
+        if (!dissociate(player.getUniqueId())) return;
+
+        if (!primaryThread) {
+            defer(() -> leave(player));
+            return;
+        }
+
+        drain();
+        leave(player);
+    }
+
+    /**
+     * Returns whether the player is present on this board.
+     *
+     * @param uuid The unique id of the player
+     * @return {@code true} if the player is present. Otherwise, {@code false}.
+     */
+    public boolean hasPlayer(@NotNull UUID uuid) {
+        return associatedPlayers.contains(uuid);
     }
 
     /**
-     * Destroys the scoreboard and resets all players boards to the bukkit main scoreboard.
+     * Destroys the scoreboard, hides it from all players and releases the render state of all scoreboards.
+     * With the default backend, all players boards are reset to the bukkit main scoreboard. Pending deferred setups are dropped.
      * Note: Call this method only in {@link JavaPlugin#onDisable()}.
      */
     public void destroy() {
-        for (UUID uuid : associatedPlayers) {
-            Player player = Bukkit.getPlayer(uuid);
-            if (player == null) break;
+        deferred.clear();
 
-            player.setScoreboard(Bukkit.getScoreboardManager().getMainScoreboard());
+        for (UUID uuid : associatedPlayers()) {
+            Scoreboard scoreboard = scoreboard(uuid);
+            if (scoreboard != null) backend.hide(uuid, scoreboard);
         }
 
-        associatedPlayers.clear();
+        synchronized (associatedPlayers) {
+            associatedPlayers.clear();
+            players = List.of();
+        }
+        legacy.clear();
+        states.clear();
+        BOARDS.remove(this);
+        destroyed = true;
     }
 
-    // MARK: Internal API
+    /**
+     * Returns whether this board was destroyed by {@link #destroy()}.
+     *
+     * @return {@code true} if the board was destroyed. Otherwise, {@code false}.
+     */
+    public boolean destroyed() {
+        return destroyed;
+    }
 
     /**
-     * Updates a scoreboard with a list of lines. These have to be in reversed order and colors have to be in the legacy format.
+     * Configures the plugin running the deferred setups of players added off the main thread. Defaults to the plugin providing the class of the board.
+     * When a player is added, a {@link PlexBoardListener} is registered for the plugin, if not done yet, so players are released from all boards when they quit.
+     * A {@link BoardScheduler} sets its own plugin on the boards registered to it, if none is set yet.
      *
-     * @param scoreboard The scoreboard to update
-     * @param lines      The list of lines
-     * @throws LineTooLongException     Thrown if a line was too long
-     * @throws NotTranslatableException Thrown if the line cannot be translated into a component
+     * @param plugin The plugins main class instance
+     * @return The current instance
      */
-    protected void updateScoreboard(Scoreboard scoreboard, @NotNull List<String> lines) throws LineTooLongException, NotTranslatableException {
-        Objective objective = dummyObjective(scoreboard);
-        objective.displayName(title(scoreboard));
+    public PlexBoard plugin(@NotNull JavaPlugin plugin) {
+        this.plugin = plugin;
+        return this;
+    }
+
+    /**
+     * Returns the configured plugin of this board. May be null if none is set and the class of the board was not loaded by a plugin.
+     *
+     * @return The plugin or null
+     */
+    public @Nullable JavaPlugin plugin() {
+        return plugin;
+    }
 
-        if (legacyLines.containsKey(scoreboard)) {
-            if (legacyLines.get(scoreboard).equals(lines)) return;
+    /**
+     * Configures the {@link SidebarBackend} showing the rendered frames to the players. Must be set before any player is added.
+     *
+     * @param backend The new backend
+     * @return The current instance
+     */
+    public PlexBoard backend(@NotNull SidebarBackend backend) {
+        this.backend = backend;
+        return this;
+    }
 
-            if (legacyLines.get(scoreboard).size() != lines.size()) {
-                scoreboard.clearSlot(DisplaySlot.SIDEBAR);
-                scoreboard.getEntries().forEach(scoreboard::resetScores);
-                scoreboard.getTeams().stream().filter(team -> team.getName().contains("line")).forEach(Team::unregister);
-            }
+    /**
+     * Returns the configured {@link SidebarBackend} or the {@link BukkitSidebarBackend}.
+     *
+     * @return The current backend
+     */
+    public @NotNull SidebarBackend backend() {
+        return backend;
+    }
+
+    /**
+     * Configures the {@link BoardEnvironment} telling the main thread and looking up online players, e.g. to run the board without a server in tests.
+     * Must be set before any player is added.
+     *
+     * @param environment The new environment
+     * @return The current instance
+     */
+    public PlexBoard environment(@NotNull BoardEnvironment environment) {
+        this.environment = environment;
+        return this;
+    }
+
+    /**
+     * Returns the configured {@link BoardEnvironment} or the {@link BukkitBoardEnvironment}.
+     *
+     * @return The current environment
+     */
+    public @NotNull BoardEnvironment environment() {
+        return environment;
+    }
+
+    /**
+     * Registers the line sources used by the title or lines of this board, so their timeouts and stale renders are counted for it.
+     * Sources are not detected automatically, so sources not registered here are not part of {@link #timeouts()} and {@link #staleRenders()}.
+     *
+     * @param sources The line sources
+     * @return The current instance
+     */
+    public PlexBoard watch(@NotNull LineSource<?>... sources) {
+        this.sources.addAll(List.of(sources));
+        return this;
+    }
+
+    /**
+     * Returns how often a line source of this board was not ready within its deadline.
+     *
+     * @return The amount of timeouts
+     * @see LineSource#timeouts()
+     */
+    public long timeouts() {
+        long timeouts = 0;
+        for (LineSource<?> source : sources) {
+            timeouts += source.timeouts();
         }
-        legacyLines.put(scoreboard, new ArrayList<>(lines));
-        objective.setDisplaySlot(DisplaySlot.SIDEBAR);
+        return timeouts;
+    }
 
-        List<String> reversedLines = new ArrayList<>(lines);
-        Collections.reverse(reversedLines);
+    /**
+     * Returns how often a line source of this board returned its last known value instead of a refreshed one.
+     *
+     * @return The amount of stale renders
+     * @see LineSource#staleRenders()
+     */
+    public long staleRenders() {
+        long staleRenders = 0;
+        for (LineSource<?> source : sources) {
+            staleRenders += source.staleRenders();
+        }
+        return staleRenders;
+    }
 
-        List<String> colorCodeOptions = colorOptions(reversedLines.size());
+    /**
+     * Returns the amount of scoreboards whose render state is currently kept by this board.
+     *
+     * @return The amount of render states
+     * @see BoardStateStore#size()
+     */
+    public int renderStates() {
+        return states.size();
+    }
 
-        int score = 1;
-        for (String entry : reversedLines) {
-            int maxLineLength = 128;
-            if (entry.length() > maxLineLength) throw new LineTooLongException(entry, maxLineLength);
+    /**
+     * Removes the player from all boards it is present on. Called by the {@link PlexBoardListener} when a player quits.
+     *
+     * @param player The player to remove
+     */
+    static void releaseAll(@NotNull Player player) {
+        List<PlexBoard> boards;
+        synchronized (BOARDS) {
+            boards = new ArrayList<>(BOARDS);
+        }
 
-            entry = ComponentTranslator.translator().serializeLegacy(color(entry));
+        for (PlexBoard board : boards) {
+            if (board.hasPlayer(player.getUniqueId())) board.removePlayer(player);
+        }
+    }
 
-            Team team = scoreboard.getTeam("line" + score);
-            String prefix;
-            String suffix = "";
+    // MARK: Internal API
 
-            int cutOff = 64;
-            if (entry.length() <= cutOff) {
-                prefix = entry;
+    /**
+     * Shows the board to a player which was just added. Always called on the main thread. Does nothing by default.
+     *
+     * @param player The added player
+     * @throws NotTranslatableException Thrown if a line could not be translated into a {@link Component}
+     * @throws LineTooLongException     Thrown if a line is longer than the maximum of allowed chars
+     */
+    protected void join(@NotNull Player player) throws NotTranslatableException, LineTooLongException {
+    }
+
+    /**
+     * Hides the board from a player which was just removed. Always called on the main thread.
+     * Nothing happens if the player was added again in the meantime. <br>
+     * The state of a scoreboard tracked by {@link #updateScoreboard(Scoreboard, List)} for the player is released.
+     * Those tracked as shared are released once the last player was removed.
+     *
+     * @param player The removed player
+     */
+    protected void leave(@NotNull Player player) {
+        if (associatedPlayers.contains(player.getUniqueId())) return;
 
-            } else {
-                prefix = entry.substring(0, cutOff);
+        Scoreboard scoreboard = scoreboard(player.getUniqueId());
+        if (scoreboard != null) backend.hide(player.getUniqueId(), scoreboard);
 
-                if (prefix.endsWith(String.valueOf(LegacyColorUtil.LEGACY_CHAR))) {
-                    prefix = prefix.substring(0, prefix.length() - 1);
-                    suffix = LegacyColorUtil.LEGACY_CHAR + suffix;
-                }
+        Scoreboard owned = states.scoreboard(player.getUniqueId());
+        if (owned != null && legacy.remove(owned)) states.release(owned);
 
-                suffix = StringUtils.left(LegacyColorUtil.lastColor(prefix) + suffix + entry.substring(cutOff), cutOff);
-            }
+        if (!associatedPlayers.isEmpty()) return;
+        for (Scoreboard shared : legacy) {
+            legacy.remove(shared);
+            states.release(shared);
+        }
+    }
 
-            if (team != null) {
-                team.getEntries().forEach(team::removeEntry);
-                team.addEntry(colorCodeOptions.get(score));
+    /**
+     * Queues a task called off the main thread. All queued tasks of this board run on the main thread in the order they were queued,
+     * with their exceptions logged.
+     *
+     * @param task The task
+     */
+    private void defer(@NotNull MainThreadTask task) {
+        JavaPlugin plugin = requirePlugin();
 
-            } else {
-                team = scoreboard.registerNewTeam("line" + score);
-                team.addEntry(colorCodeOptions.get(score));
-                objective.getScore(colorCodeOptions.get(score)).setScore(score);
+        deferred.add(task);
+        if (draining.compareAndSet(false, true)) Bukkit.getScheduler().runTask(plugin, this::drain);
+    }
+
+    /**
+     * Returns the plugin of this board, which is required to defer tasks to the main thread.
+     *
+     * @return The plugin
+     * @throws IllegalStateException Thrown if no plugin is set
+     */
+    private @NotNull JavaPlugin requirePlugin() {
+        JavaPlugin plugin = this.plugin;
+        if (plugin == null) throw new IllegalStateException("A plugin must be set to add or remove players off the main thread");
+        return plugin;
+    }
+
+    /**
+     * Runs all queued tasks. Must be called on the main thread.
+     */
+    private void drain() {
+        draining.set(false);
+
+        MainThreadTask task;
+        while ((task = deferred.poll()) != null) {
+            try {
+                task.run();
+            } catch (LineTooLongException | NotTranslatableException | RuntimeException exception) {
+                (plugin == null ? Bukkit.getLogger() : plugin.getLogger()).log(Level.WARNING, "Could not set up a scoreboard", exception);
             }
+        }
+    }
 
-            team.prefix(ComponentTranslator.translator().translateLegacy(prefix));
-            team.suffix(ComponentTranslator.translator().translateLegacy(suffix));
+    /**
+     * Updates a scoreboard with a list of lines. Colors have to be in the legacy format. <br>
+     * An untracked scoreboard is tracked for the only player of this board it is shown to, so its render state is released when that player is removed.
+     * If it is shown to none or multiple players, it is tracked as shared and released once the last player was removed.
+     *
+     * @param scoreboard The scoreboard to update
+     * @param lines      The list of lines from top to bottom
+     * @throws LineTooLongException     Thrown if a line was too long
+     * @throws NotTranslatableException Thrown if the line cannot be translated into a component
+     */
+    protected void updateScoreboard(Scoreboard scoreboard, @NotNull List<String> lines) throws LineTooLongException, NotTranslatableException {
+        if (!states.contains(scoreboard)) {
+            legacy.add(scoreboard);
+
+            Scoreboard replaced = states.track(viewer(scoreboard), scoreboard);
+            if (replaced != null) legacy.remove(replaced);
+        }
+        commit(scoreboard, render(scoreboard, lines));
+    }
 
-            score++;
+    /**
+     * Returns the only player of this board the bukkit scoreboard is shown to. Only scoreboards tracked by {@link #updateScoreboard(Scoreboard, List)} are looked up this way.
+     *
+     * @param scoreboard The scoreboard
+     * @return The player or null if the scoreboard is shown to none or multiple players of this board
+     */
+    private @Nullable UUID viewer(@NotNull Scoreboard scoreboard) {
+        UUID viewer = null;
+        for (UUID uuid : associatedPlayers()) {
+            Player player = environment.player(uuid);
+            if (player == null || player.getScoreboard() != scoreboard) continue;
+
+            if (viewer != null) return null;
+            viewer = uuid;
         }
+        return viewer;
+    }
+
+    /**
+     * Renders the current lines of a scoreboard into a {@link SidebarFrame} without touching the scoreboard itself.
+     * Lines provided as components by {@link #components(Scoreboard)} take precedence over the legacy lines of {@link #lines(Scoreboard)}. <br>
+     * This is safe to call off the main thread as long as {@link #title(Scoreboard)}, {@link #components(Scoreboard)} and {@link #lines(Scoreboard)} are.
+     *
+     * @param scoreboard The scoreboard to render
+     * @return The rendered frame or null if the scoreboard is no longer rendered by this board
+     * @throws LineTooLongException     Thrown if a line was too long
+     * @throws NotTranslatableException Thrown if the line cannot be translated into a component
+     * @see #commit(Scoreboard, SidebarFrame)
+     */
+    protected @Nullable SidebarFrame render(Scoreboard scoreboard) throws LineTooLongException, NotTranslatableException {
+        List<Component> components = components(scoreboard);
+        if (components != null) return renderComponents(scoreboard, components);
+
+        List<String> lines = lines(scoreboard);
+        if (lines == null) return null;
 
+        return render(scoreboard, lines);
     }
 
     /**
-     * Generate a list of unique color code combinations to use as scoreboard entries using the legacy class {@link ChatColor}.
-     * This is done to ensure that
-     * <ol>
-     *     <li>Duplicate lines can be created</li>
-     *     <li>The content of a scoreboard line is stored in the team prefix + suffix, rather than the entry itself</li>
-     * </ol>
+     * Renders a list of legacy lines into a {@link SidebarFrame} for the scoreboard. Lines equal to the previously applied ones are not rendered again.
+     * Every legacy line is translated once and used as the whole team prefix.
      *
-     * @param amount The amount of lines, and by proxy the amount of color combinations, to be generated
-     * @return The list of unique color combinations
+     * @param scoreboard The scoreboard to render
+     * @param lines      The list of lines from top to bottom
+     * @return The rendered frame
+     * @throws LineTooLongException     Thrown if a line was too long
+     * @throws NotTranslatableException Thrown if the line cannot be translated into a component
      */
-    @SuppressWarnings("deprecation")
-    private List<String> colorOptions(int amount) {
-        List<String> colorCodeOptions = new ArrayList<>();
+    protected @NotNull SidebarFrame render(Scoreboard scoreboard, @NotNull List<String> lines) throws LineTooLongException, NotTranslatableException {
+        SidebarFrame previous = states.frame(scoreboard);
+        Component title = title(scoreboard);
 
-        for (ChatColor first : ChatColor.values()) {
-            if (first.isFormat()) continue;
+        if (previous != null && previous.source().equals(lines)) return reuse(previous, title);
 
-            for (ChatColor second : ChatColor.values()) {
-                if (second.isFormat()) continue;
+        List<SidebarLine> rendered = new ArrayList<>(lines.size());
+        for (String line : lines) {
+            rendered.add(renderLine(line));
+        }
+        return new SidebarFrame(title, lines, rendered);
+    }
 
-                String option = first + String.valueOf(second);
+    /**
+     * Renders a list of component lines into a {@link SidebarFrame} for the scoreboard. Every component is used as the whole team prefix without being split.
+     *
+     * @param scoreboard The scoreboard to render
+     * @param lines      The list of lines from top to bottom
+     * @return The rendered frame
+     */
+    protected @NotNull SidebarFrame renderComponents(Scoreboard scoreboard, @NotNull List<Component> lines) {
+        SidebarFrame previous = states.frame(scoreboard);
+        Component title = title(scoreboard);
 
-                if (first != second && !colorCodeOptions.contains(option)) {
-                    colorCodeOptions.add(option);
+        if (previous != null && previous.source().equals(lines)) return reuse(previous, title);
 
-                    if (colorCodeOptions.size() == amount) break;
-                }
-            }
+        List<SidebarLine> rendered = new ArrayList<>(lines.size());
+        for (Component line : lines) {
+            rendered.add(SidebarLine.of(line));
         }
+        return new SidebarFrame(title, lines, rendered);
+    }
+
+    /**
+     * Applies a rendered frame to the scoreboard through the {@link SidebarBackend}. Must be called on the main thread. <br>
+     * The frame is compared with the previously applied frame of the scoreboard, so only teams whose prefix or suffix changed are updated
+     * and only trailing entries are added or removed if the amount of lines changes.
+     *
+     * @param scoreboard The scoreboard to update
+     * @param frame      The rendered frame
+     * @see #render(Scoreboard)
+     */
+    protected void commit(Scoreboard scoreboard, @NotNull SidebarFrame frame) {
+        SidebarFrame previous = states.frame(scoreboard);
+        if (previous == frame) return;
 
-        return colorCodeOptions;
+        backend.apply(scoreboard, viewers(scoreboard), previous, frame);
+        states.frame(scoreboard, frame);
     }
 
+    /**
+     * Shows the scoreboard to a player through the {@link SidebarBackend}. Must be called on the main thread.
+     *
+     * @param player     The player
+     * @param scoreboard The scoreboard
+     */
+    protected void show(@NotNull Player player, @NotNull Scoreboard scoreboard) {
+        backend.show(player.getUniqueId(), scoreboard, states.frame(scoreboard));
+    }
+
+    /**
+     * Returns the previous frame with the given title. The previous frame itself is returned if the title did not change.
+     *
+     * @param previous The previous frame
+     * @param title    The title
+     * @return The frame with the given title
+     */
+    private @NotNull SidebarFrame reuse(@NotNull SidebarFrame previous, @NotNull Component title) {
+        if (previous.title().equals(title)) return previous;
+        return new SidebarFrame(title, previous.source(), previous.lines());
+    }
+
+    /**
+     * Renders a single legacy line. The line is translated once and stored in the team prefix.
+     * Rendered lines are shared through the {@link LineCache} between all boards with an equal {@link #cacheKey()}.
+     *
+     * @param entry The legacy line
+     * @return The rendered line
+     * @throws LineTooLongException Thrown if the line was too long
+     */
+    protected @NotNull SidebarLine renderLine(@NotNull String entry) throws LineTooLongException {
+        int maxLineLength = 128;
+        if (entry.length() > maxLineLength) throw new LineTooLongException(entry, maxLineLength);
+
+        return LineCache.lineCache().line(cacheKey(), entry, line -> SidebarLine.of(color(line)));
+    }
+
+    /**
+     * Returns the plugin providing the class. May be null if the class was not loaded by a plugin, e.g. in tests.
+     *
+     * @param type The class
+     * @return The plugin or null
+     */
+    private static @Nullable JavaPlugin providingPlugin(@NotNull Class<?> type) {
+        try {
+            return JavaPlugin.getProvidingPlugin(type);
+        } catch (IllegalArgumentException | IllegalStateException exception) {
+            return null;
+        }
+    }
+
+    /**
+     * Adds the player to the members of this board.
+     *
+     * @param uuid The unique id of the player
+     * @return {@code true} if the player was not a member yet. Otherwise, {@code false}.
+     */
+    private boolean associate(@NotNull UUID uuid) {
+        synchronized (associatedPlayers) {
+            if (!associatedPlayers.add(uuid)) return false;
+
+            List<UUID> next = new ArrayList<>(players);
+            next.add(uuid);
+            players = Collections.unmodifiableList(next);
+            return true;
+        }
+    }
+
+    /**
+     * Removes the player from the members of this board.
+     *
+     * @param uuid The unique id of the player
+     * @return {@code true} if the player was a member. Otherwise, {@code false}.
+     */
+    private boolean dissociate(@NotNull UUID uuid) {
+        synchronized (associatedPlayers) {
+            if (!associatedPlayers.remove(uuid)) return false;
+
+            List<UUID> next = new ArrayList<>(players);
+            next.remove(uuid);
+            players = Collections.unmodifiableList(next);
+            return true;
+        }
+    }
 
     /**
-     * Returns a list containing all entities associated with this scoreboard. This list can be empty if no entity belongs to the board.
+     * Returns an unmodifiable list containing all entities associated with this scoreboard in the order they were added.
+     * This list can be empty if no entity belongs to the board. <br>
+     * The list is replaced whenever a player is added or removed, so it can be iterated from any thread without being copied.
      *
      * @return The list with all entities on this board
      */
     protected @NotNull List<UUID> associatedPlayers() {
-        return associatedPlayers;
+        return players;
     }
 
     /**
-     * Translates a string into a colored {@link Component}.
+     * Translates a string into a colored {@link Component}. <br>
+     * Translated lines are shared in the {@link LineCache} under the {@link #cacheKey()} of this board.
      *
      * @param string The string to translate
      * @return The colored component
@@ -195,6 +611,17 @@ public abstract class PlexBoard {
         return ComponentTranslator.translator().translateLegacy(string);
     }
 
+    /**
+     * Returns the key the lines rendered by this board are shared under in the {@link LineCache}. By default, this is the class of the board,
+     * so all boards of one class share their lines. Boards whose {@link #color(String)} depends on settings of the instance
+     * have to return a key of their own, e.g. the board itself or its settings.
+     *
+     * @return The key of the rendered lines
+     */
+    protected @NotNull Object cacheKey() {
+        return getClass();
+    }
+
     /**
      * Returns the title if a particular scoreboard.
      *
@@ -204,19 +631,117 @@ public abstract class PlexBoard {
     protected abstract @NotNull Component title(Scoreboard scoreboard);
 
     /**
-     * Returns a dummy objective. It will be created if not present on the scoreboard, otherwise only returned.
+     * Returns the lines of a particular scoreboard from top to bottom. May be null if the scoreboard is no longer rendered by this board. <br>
+     * Returns null by default, so boards only updated through {@link #updateScoreboard(Scoreboard, List)} are skipped when rendered by a scheduler.
      *
      * @param scoreboard The scoreboard
-     * @return A dummy objective
+     * @return The lines or null
      */
-    private @NotNull Objective dummyObjective(Scoreboard scoreboard) {
-        Objective objective = scoreboard.getObjective("dummy");
+    protected @Nullable List<String> lines(Scoreboard scoreboard) {
+        return null;
+    }
 
-        if (objective == null) {
-            objective = scoreboard.registerNewObjective("dummy", Criteria.DUMMY, Component.empty());
-        }
+    /**
+     * Returns the lines of a particular scoreboard from top to bottom as components. If null, the legacy lines of {@link #lines(Scoreboard)} are used.
+     *
+     * @param scoreboard The scoreboard
+     * @return The lines or null
+     */
+    protected @Nullable List<Component> components(Scoreboard scoreboard) {
+        return null;
+    }
+
+    /**
+     * Returns all bukkit scoreboards currently rendered by this board. A board sharing one scoreboard between all players returns only that one. <br>
+     * By default, these are all scoreboards tracked by the {@link #states()} of this board.
+     *
+     * @return The rendered scoreboards
+     */
+    protected @NotNull Collection<Scoreboard> scoreboards() {
+        return states.scoreboards();
+    }
+
+    /**
+     * Returns the scoreboard shown to a player of this board. May be null if the player has none.
+     * By default, this is the scoreboard owned by the player in the {@link #states()} of this board.
+     *
+     * @param player The player
+     * @return The scoreboard or null
+     */
+    protected @Nullable Scoreboard scoreboard(@NotNull UUID player) {
+        return states.scoreboard(player);
+    }
 
-        return objective;
+    /**
+     * Returns the players viewing a scoreboard of this board. By default, these are all players of the board.
+     *
+     * @param scoreboard The scoreboard
+     * @return The viewers
+     */
+    protected @NotNull Collection<UUID> viewers(Scoreboard scoreboard) {
+        return associatedPlayers();
     }
 
+    /**
+     * Returns whether the scoreboard is currently rendered by this board. By default, these are all scoreboards tracked by the {@link #states()} of this board.
+     *
+     * @param scoreboard The scoreboard
+     * @return {@code true} if the scoreboard is rendered by this board. Otherwise, {@code false}.
+     */
+    protected boolean renders(Scoreboard scoreboard) {
+        return states.contains(scoreboard);
+    }
+
+    /**
+     * Returns the store holding the render state of all scoreboards of this board.
+     *
+     * @return The store
+     */
+    protected @NotNull BoardStateStore states() {
+        return states;
+    }
+
+    /**
+     * Updates a single scoreboard rendered by this board with its current lines. Nothing happens if the scoreboard is no longer rendered by this board.
+     *
+     * @param scoreboard The scoreboard to update
+     * @throws LineTooLongException     Thrown if a line was too long
+     * @throws NotTranslatableException Thrown if the line cannot be translated into a component
+     * @see #render(Scoreboard)
+     */
+    protected void updateScoreboard(Scoreboard scoreboard) throws LineTooLongException, NotTranslatableException {
+        SidebarFrame frame = render(scoreboard);
+        if (frame == null) return;
+
+        commit(scoreboard, frame);
+    }
+
+    /**
+     * Starts a new render cycle, in which all scoreboards of this board are updated once.
+     * Called by the {@link BoardScheduler} once per period, before the scoreboards of this board are queued.
+     * Boards sharing rendered results between their scoreboards must not reuse results of an older cycle.
+     */
+    protected void nextCycle() {
+        cycle.incrementAndGet();
+    }
+
+    /**
+     * Returns the current render cycle of this board.
+     *
+     * @return The current cycle
+     * @see #nextCycle()
+     */
+    protected long cycle() {
+        return cycle.get();
+    }
+
+    /**
+     * Represents a task which has to run on the main thread.
+     */
+    @FunctionalInterface
+    private interface MainThreadTask {
+
+        void run() throws NotTranslatableException, LineTooLongException;
+
+    }
 }
@@ -0,0 +1,54 @@
+package eu.syplex.scoreboard;
+
+import org.bukkit.Bukkit;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * Represents a listener removing players from all {@link PlexBoard}s when they quit, so the boards release their render state. <br>
+ * It is registered automatically for the plugin of a board when the first player is added to it. Boards default to the plugin providing their class,
+ * so it only has to be registered manually for boards loaded outside any plugin.
+ *
+ * @version 1.0.0
+ * @since 1.3.0
+ */
+public class PlexBoardListener implements Listener {
+
+    private static final Set<Plugin> REGISTERED = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+    /**
+     * Registers a listener for the plugin if none was registered for it yet. A plugin enabled again after a reload is a new instance and registered again.
+     * The plugin is only remembered once the listener was registered successfully.
+     *
+     * @param plugin The plugins main class instance
+     * @see PlexBoard#plugin(JavaPlugin)
+     */
+    static void register(@NotNull JavaPlugin plugin) {
+        synchronized (REGISTERED) {
+            if (REGISTERED.contains(plugin)) return;
+
+            Bukkit.getPluginManager().registerEvents(new PlexBoardListener(), plugin);
+            REGISTERED.add(plugin);
+        }
+    }
+
+    /**
+     * Removes the quitting player from all boards. <br>
+     * <b>Do not call this method. This in an implementation of an {@link Listener}!</b>
+     *
+     * @param event The event that is called
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        PlexBoard.releaseAll(event.getPlayer());
+    }
+}
@@ -0,0 +1,234 @@
+package eu.syplex.scoreboard;
+
+import eu.syplex.common.exception.NotTranslatableException;
+import eu.syplex.scoreboard.exception.LineTooLongException;
+import eu.syplex.scoreboard.reactive.Observable;
+import eu.syplex.scoreboard.render.SidebarFrame;
+import net.kyori.adventure.text.Component;
+import org.bukkit.scoreboard.Scoreboard;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Represents a {@link GlobalScoreboard} whose lines are bound to {@link Observable} values rather than polled. <br>
+ * A change of a bound value only marks its line dirty. The next {@link #flush()} renders only the dirty lines,
+ * while flushing a board without any changes does nothing at all. <br>
+ * To bind values of a single player, e.g. a statistic, create a board for that player only.
+ *
+ * @version 1.0.0
+ * @since 1.3.0
+ */
+public class ReactiveScoreboard extends GlobalScoreboard {
+
+    private final List<LineRenderer> renderers = new ArrayList<>();
+    private final List<Component> rendered = new ArrayList<>();
+    private final BitSet dirtyLines = new BitSet();
+    private final AtomicLong changes = new AtomicLong(1);
+    private final List<Subscription> subscriptions = new ArrayList<>();
+
+    private volatile List<Component> snapshot = List.of();
+    private volatile long committed = 0;
+    private volatile @Nullable Pending pending;
+
+    /**
+     * Instantiates a new {@link ReactiveScoreboard} with an observable title.
+     *
+     * @param title The title
+     */
+    public ReactiveScoreboard(@NotNull Observable<Component> title) {
+        super(title::get, List::of);
+        components(() -> snapshot);
+        bind(title, this::markDirty);
+    }
+
+    // MARK: Public API
+
+    /**
+     * Adds a static legacy line below all other lines. Like all legacy lines, it must not be longer than the maximum of allowed chars.
+     *
+     * @param line The legacy line
+     * @return The current instance
+     */
+    public ReactiveScoreboard line(@NotNull String line) {
+        return addLine(() -> renderLine(line).prefix());
+    }
+
+    /**
+     * Adds a legacy line below all other lines. The line is rendered again whenever one of its dependencies changes.
+     * If the rendered line is longer than the maximum of allowed chars, the next flush fails with a {@link LineTooLongException}.
+     *
+     * @param line         The supplier of the legacy line
+     * @param dependencies The values the line depends on
+     * @return The current instance
+     */
+    public ReactiveScoreboard line(@NotNull Supplier<@NotNull String> line, @NotNull Observable<?>... dependencies) {
+        return addLine(() -> renderLine(line.get()).prefix(), dependencies);
+    }
+
+    /**
+     * Adds a line as component below all other lines. The line is rendered again whenever one of its dependencies changes.
+     *
+     * @param line         The supplier of the line
+     * @param dependencies The values the line depends on
+     * @return The current instance
+     */
+    public ReactiveScoreboard componentLine(@NotNull Supplier<@NotNull Component> line, @NotNull Observable<?>... dependencies) {
+        return addLine(line::get, dependencies);
+    }
+
+    /**
+     * Renders all dirty lines and applies them to the scoreboard. Nothing happens if no bound value changed since the last applied flush.
+     *
+     * @throws NotTranslatableException Thrown if a line could not be translated into a {@link Component}
+     * @throws LineTooLongException     Thrown if a line is longer than the maximum of allowed chars
+     * @see #updateScoreboard()
+     */
+    public void flush() throws NotTranslatableException, LineTooLongException {
+        updateScoreboard();
+    }
+
+    /**
+     * {@inheritDoc}
+     * All subscriptions to bound values are removed.
+     */
+    @Override
+    public void destroy() {
+        super.destroy();
+
+        synchronized (dirtyLines) {
+            subscriptions.forEach(subscription -> subscription.observable().unsubscribe(subscription.subscriber()));
+            subscriptions.clear();
+        }
+    }
+
+    // MARK: Internal API
+
+    /**
+     * Adds a line below all other lines and binds it to its dependencies.
+     *
+     * @param line         The renderer of the line
+     * @param dependencies The values the line depends on
+     * @return The current instance
+     */
+    private ReactiveScoreboard addLine(@NotNull LineRenderer line, @NotNull Observable<?>... dependencies) {
+        synchronized (dirtyLines) {
+            int index = renderers.size();
+            renderers.add(line);
+            rendered.add(Component.empty());
+
+            for (Observable<?> dependency : dependencies) {
+                bind(dependency, () -> markDirty(index));
+            }
+            markDirty(index);
+        }
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Only lines marked dirty are rendered again. If nothing changed since the last applied frame, nothing is rendered at all.
+     * The board stays dirty until the rendered frame is applied, so a failed or dropped render is repeated with the next flush.
+     *
+     * @param scoreboard The scoreboard to render
+     * @return The rendered frame or null if nothing changed
+     * @throws LineTooLongException     Thrown if a line was too long
+     * @throws NotTranslatableException Thrown if the line cannot be translated into a component
+     */
+    @Override
+    protected @Nullable SidebarFrame render(Scoreboard scoreboard) throws LineTooLongException, NotTranslatableException {
+        long version = changes.get();
+        if (version == committed) return null;
+
+        synchronized (dirtyLines) {
+            for (int index = dirtyLines.nextSetBit(0); index >= 0; index = dirtyLines.nextSetBit(index + 1)) {
+                rendered.set(index, renderers.get(index).render());
+            }
+            dirtyLines.clear();
+            snapshot = List.copyOf(rendered);
+        }
+
+        SidebarFrame frame = super.render(scoreboard);
+        if (frame != null) pending = new Pending(version, frame);
+
+        return frame;
+    }
+
+    /**
+     * {@inheritDoc}
+     * If the frame is the one rendered last, all changes it was rendered from are marked as applied.
+     *
+     * @param scoreboard The scoreboard to update
+     * @param frame      The rendered frame
+     */
+    @Override
+    protected void commit(Scoreboard scoreboard, @NotNull SidebarFrame frame) {
+        super.commit(scoreboard, frame);
+
+        Pending pending = this.pending;
+        if (pending != null && pending.frame() == frame) committed = pending.version();
+    }
+
+    /**
+     * Marks a line dirty to be rendered with the next flush.
+     *
+     * @param index The index of the line
+     */
+    private void markDirty(int index) {
+        synchronized (dirtyLines) {
+            dirtyLines.set(index);
+        }
+        markDirty();
+    }
+
+    /**
+     * Marks the board dirty to be rendered with the next flush.
+     */
+    private void markDirty() {
+        changes.incrementAndGet();
+    }
+
+    /**
+     * Subscribes to an observable and remembers the subscription to remove it when the board is destroyed.
+     *
+     * @param observable The observable
+     * @param subscriber The subscriber
+     */
+    private void bind(@NotNull Observable<?> observable, @NotNull Runnable subscriber) {
+        observable.subscribe(subscriber);
+        subscriptions.add(new Subscription(observable, subscriber));
+    }
+
+    /**
+     * Represents a subscription to an observable value.
+     *
+     * @param observable The observable
+     * @param subscriber The subscriber
+     */
+    private record Subscription(@NotNull Observable<?> observable, @NotNull Runnable subscriber) {
+    }
+
+    /**
+     * Represents the frame rendered last and the version of the changes it was rendered from.
+     *
+     * @param version The version of the changes
+     * @param frame   The rendered frame
+     */
+    private record Pending(long version, @NotNull SidebarFrame frame) {
+    }
+
+    /**
+     * Represents the renderer of a single line.
+     */
+    @FunctionalInterface
+    private interface LineRenderer {
+
+        @NotNull Component render() throws LineTooLongException, NotTranslatableException;
+
+    }
+}
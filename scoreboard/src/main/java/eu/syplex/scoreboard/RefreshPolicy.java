@@ -0,0 +1,198 @@
+package eu.syplex.scoreboard;
+
+import org.bukkit.Bukkit;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.inventory.InventoryCloseEvent;
+import org.bukkit.event.inventory.InventoryOpenEvent;
+import org.bukkit.event.player.PlayerInteractEvent;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Represents an adaptive refresh policy of a {@link BoardScheduler}, deciding how often the scoreboard of a single viewer is updated. <br>
+ * Viewers idle for {@link #idleAfter} ticks are updated less often, doubling their interval every further {@link #idleAfter} ticks up to {@link #maxBackoff} times the period.
+ * Viewers with an open inventory cannot see the sidebar and are updated at the maximum backoff. Moving or interacting resets a viewer to full speed.
+ * Additionally, a minimum interval can be registered for single viewers. Scoreboards seen by more than one viewer are always updated at full speed.
+ *
+ * @version 1.0.0
+ * @since 1.3.0
+ */
+public class RefreshPolicy implements Listener {
+
+    private final Map<UUID, Integer> lastActive = new ConcurrentHashMap<>();
+    private final Set<UUID> inventoryOpen = ConcurrentHashMap.newKeySet();
+    private final Map<UUID, Long> minIntervals = new ConcurrentHashMap<>();
+
+    private long idleAfter = 1200;
+    private int maxBackoff = 8;
+
+    // MARK: Public API
+
+    /**
+     * Configures the {@link #idleAfter} ticks without activity after which a viewer is considered idle.
+     *
+     * @param idleAfter The new amount of ticks
+     * @return The current instance
+     */
+    public RefreshPolicy idleAfter(long idleAfter) {
+        this.idleAfter = Math.max(1, idleAfter);
+        return this;
+    }
+
+    /**
+     * Configures the {@link #maxBackoff}, the maximum factor the period of idle viewers is multiplied with.
+     *
+     * @param maxBackoff The new maximum backoff
+     * @return The current instance
+     */
+    public RefreshPolicy maxBackoff(int maxBackoff) {
+        this.maxBackoff = Math.max(1, maxBackoff);
+        return this;
+    }
+
+    /**
+     * Limits how often the scoreboards of a viewer are updated, e.g. for viewers whose lines barely change.
+     *
+     * @param viewer      The viewer
+     * @param minInterval The minimum amount of ticks between two updates or {@code 0} to remove the limit
+     * @return The current instance
+     */
+    public RefreshPolicy minInterval(@NotNull UUID viewer, long minInterval) {
+        if (minInterval <= 0) minIntervals.remove(viewer);
+        else minIntervals.put(viewer, minInterval);
+        return this;
+    }
+
+    /**
+     * Returns the configured {@link #idleAfter} or {@code 1200}.
+     *
+     * @return The current amount of ticks
+     */
+    public long idleAfter() {
+        return idleAfter;
+    }
+
+    /**
+     * Returns the configured {@link #maxBackoff} or {@code 8}.
+     *
+     * @return The current maximum backoff
+     */
+    public int maxBackoff() {
+        return maxBackoff;
+    }
+
+    /**
+     * Returns the amount of ticks between two updates of the scoreboard of a viewer.
+     *
+     * @param viewer The viewer
+     * @param period The period of the scheduler
+     * @return The interval in ticks
+     */
+    public long interval(@NotNull UUID viewer, long period) {
+        long interval = period * backoff(viewer);
+
+        Long minInterval = minIntervals.get(viewer);
+        return minInterval == null ? interval : Math.max(interval, minInterval);
+    }
+
+    /**
+     * Marks a viewer active. Since moves are called multiple times per tick, the viewer is marked at most once per tick. <br>
+     * <b>Do not call this method. This in an implementation of an {@link Listener}!</b>
+     *
+     * @param event The event that is called
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onMove(PlayerMoveEvent event) {
+        UUID uuid = event.getPlayer().getUniqueId();
+
+        Integer last = lastActive.get(uuid);
+        if (last != null && last == Bukkit.getCurrentTick()) return;
+
+        active(uuid);
+    }
+
+    /**
+     * Marks a viewer active. <br>
+     * <b>Do not call this method. This in an implementation of an {@link Listener}!</b>
+     *
+     * @param event The event that is called
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onInteract(PlayerInteractEvent event) {
+        active(event.getPlayer().getUniqueId());
+    }
+
+    /**
+     * Remembers that a viewer cannot see the sidebar. <br>
+     * <b>Do not call this method. This in an implementation of an {@link Listener}!</b>
+     *
+     * @param event The event that is called
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onInventoryOpen(InventoryOpenEvent event) {
+        inventoryOpen.add(event.getPlayer().getUniqueId());
+    }
+
+    /**
+     * Marks a viewer active again after closing an inventory. <br>
+     * <b>Do not call this method. This in an implementation of an {@link Listener}!</b>
+     *
+     * @param event The event that is called
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onInventoryClose(InventoryCloseEvent event) {
+        inventoryOpen.remove(event.getPlayer().getUniqueId());
+        active(event.getPlayer().getUniqueId());
+    }
+
+    /**
+     * Forgets a quitting viewer. <br>
+     * <b>Do not call this method. This in an implementation of an {@link Listener}!</b>
+     *
+     * @param event The event that is called
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        UUID uuid = event.getPlayer().getUniqueId();
+
+        lastActive.remove(uuid);
+        inventoryOpen.remove(uuid);
+        minIntervals.remove(uuid);
+    }
+
+    // MARK: Internal API
+
+    /**
+     * Marks a viewer active in the current tick.
+     *
+     * @param viewer The viewer
+     */
+    private void active(@NotNull UUID viewer) {
+        lastActive.put(viewer, Bukkit.getCurrentTick());
+    }
+
+    /**
+     * Returns the factor the period of a viewer is multiplied with. A viewer not seen yet counts as active from now on.
+     *
+     * @param viewer The viewer
+     * @return The backoff
+     */
+    private long backoff(@NotNull UUID viewer) {
+        if (inventoryOpen.contains(viewer)) return maxBackoff;
+
+        int tick = Bukkit.getCurrentTick();
+        long idle = tick - lastActive.computeIfAbsent(viewer, key -> tick);
+        if (idle < idleAfter) return 1;
+
+        long steps = 1 + (idle - idleAfter) / idleAfter;
+        return steps >= 31 ? maxBackoff : Math.min(maxBackoff, 1L << steps);
+    }
+}
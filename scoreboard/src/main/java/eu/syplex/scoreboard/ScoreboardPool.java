@@ -0,0 +1,132 @@
+package eu.syplex.scoreboard;
+
+import eu.syplex.scoreboard.backend.BukkitSidebarBackend;
+import eu.syplex.scoreboard.util.SidebarEntries;
+import net.kyori.adventure.text.Component;
+import org.bukkit.Bukkit;
+import org.bukkit.scoreboard.DisplaySlot;
+import org.bukkit.scoreboard.Objective;
+import org.bukkit.scoreboard.Scoreboard;
+import org.bukkit.scoreboard.Team;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Represents a pool of pre-initialized bukkit {@link Scoreboard}s for personal boards. <br>
+ * Every pooled scoreboard already has the dummy objective and the teams of its lines registered.
+ * Released scoreboards are reset and reused, so creating a board on join only takes one from the pool.
+ * Scoreboards registering objectives or teams of other plugins are not reused. The pool must only be used on the main thread.
+ *
+ * @version 1.0.0
+ * @since 1.3.0
+ */
+public class ScoreboardPool {
+
+    private final Deque<Scoreboard> idle = new ArrayDeque<>();
+    private final int lines;
+    private final int maxSize;
+
+    /**
+     * Instantiates a new {@link ScoreboardPool}.
+     *
+     * @param lines   The amount of line teams registered on every pooled scoreboard
+     * @param maxSize The maximum amount of idle scoreboards kept in the pool
+     */
+    public ScoreboardPool(int lines, int maxSize) {
+        this.lines = Math.min(Math.max(0, lines), SidebarEntries.MAX_ENTRIES);
+        this.maxSize = Math.max(0, maxSize);
+    }
+
+    // MARK: Public API
+
+    /**
+     * Fills the pool with new pre-initialized scoreboards, e.g. before an expected login wave.
+     *
+     * @param amount The amount of scoreboards to create. The pool is never filled above its maximum size
+     * @return The current instance
+     */
+    public ScoreboardPool warm(int amount) {
+        for (int i = 0; i < amount && idle.size() < maxSize; i++) {
+            idle.push(create());
+        }
+        return this;
+    }
+
+    /**
+     * Takes a scoreboard from the pool. If the pool is empty, a new pre-initialized scoreboard is created.
+     *
+     * @return The scoreboard
+     */
+    public @NotNull Scoreboard acquire() {
+        Scoreboard scoreboard = idle.poll();
+        return scoreboard == null ? create() : scoreboard;
+    }
+
+    /**
+     * Resets the scoreboard and returns it to the pool. It is dropped if the pool is full or another plugin registered objectives or teams on it.
+     *
+     * @param scoreboard The scoreboard to release
+     */
+    public void release(@NotNull Scoreboard scoreboard) {
+        if (idle.size() >= maxSize || !reset(scoreboard)) return;
+        idle.push(scoreboard);
+    }
+
+    /**
+     * Returns the amount of idle scoreboards in the pool.
+     *
+     * @return The amount of idle scoreboards
+     */
+    public int size() {
+        return idle.size();
+    }
+
+    // MARK: Internal API
+
+    /**
+     * Creates a new scoreboard with the dummy objective and all line teams registered.
+     *
+     * @return The scoreboard
+     */
+    private @NotNull Scoreboard create() {
+        Scoreboard scoreboard = Bukkit.getScoreboardManager().getNewScoreboard();
+        BukkitSidebarBackend.dummyObjective(scoreboard);
+
+        for (int index = 0; index < lines; index++) {
+            BukkitSidebarBackend.lineTeam(scoreboard, index, SidebarEntries.entry(index));
+        }
+        return scoreboard;
+    }
+
+    /**
+     * Resets a scoreboard to the state it had when it was created.
+     *
+     * @param scoreboard The scoreboard to reset
+     * @return {@code true} if the scoreboard can be reused. Otherwise, {@code false}.
+     */
+    private boolean reset(@NotNull Scoreboard scoreboard) {
+        if (scoreboard.getObjectives().size() > 1) return false;
+
+        for (Team team : scoreboard.getTeams()) {
+            if (!team.getName().startsWith("line")) return false;
+        }
+
+        scoreboard.clearSlot(DisplaySlot.SIDEBAR);
+        scoreboard.getEntries().forEach(scoreboard::resetScores);
+
+        Objective objective = BukkitSidebarBackend.dummyObjective(scoreboard);
+        objective.displayName(Component.empty());
+
+        for (Team team : scoreboard.getTeams()) {
+            team.prefix(Component.empty());
+            team.suffix(Component.empty());
+        }
+
+        for (int index = 0; index < lines; index++) {
+            BukkitSidebarBackend.lineTeam(scoreboard, index, SidebarEntries.entry(index));
+        }
+        return true;
+    }
+}
@@ -0,0 +1,176 @@
+package eu.syplex.scoreboard.animation;
+
+import eu.syplex.common.translator.ComponentTranslator;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.format.Style;
+import net.kyori.adventure.text.format.TextColor;
+import org.bukkit.Bukkit;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Represents an animation made of frames pre-rendered to {@link Component}s once, e.g. an animated title or line. <br>
+ * All animations are driven by the current server tick, so every animation shows the same frame on all boards
+ * and no frame is parsed again while playing. Each frame is shown for {@link #interval()} ticks before the next one follows.
+ *
+ * @version 1.0.0
+ * @since 1.3.0
+ * @see eu.syplex.scoreboard.AnimationTicker
+ */
+public class Animation {
+
+    private final List<Component> frames;
+    private final int interval;
+
+    /**
+     * Instantiates a new {@link Animation} from its pre-rendered frames.
+     *
+     * @param frames   The frames in the order they are shown in
+     * @param interval The amount of ticks a single frame is shown
+     */
+    private Animation(@NotNull List<Component> frames, int interval) {
+        if (frames.isEmpty()) throw new IllegalArgumentException("An animation needs at least one frame");
+
+        this.frames = List.copyOf(frames);
+        this.interval = Math.max(1, interval);
+    }
+
+    /**
+     * Creates a new {@link Animation} showing the frames one after another.
+     *
+     * @param interval The amount of ticks a single frame is shown
+     * @param frames   The frames
+     * @return The animation
+     */
+    @Contract(value = "_, _ -> new", pure = true)
+    public static @NotNull Animation frames(int interval, @NotNull List<Component> frames) {
+        return new Animation(frames, interval);
+    }
+
+    /**
+     * Creates a new {@link Animation} showing the legacy frames one after another. Every frame is translated once on creation.
+     *
+     * @param interval The amount of ticks a single frame is shown
+     * @param frames   The legacy frames, e.g. {@code &6Syplex}
+     * @return The animation
+     */
+    @Contract(value = "_, _ -> new", pure = true)
+    public static @NotNull Animation legacyFrames(int interval, @NotNull String... frames) {
+        return new Animation(Arrays.stream(frames).map(frame -> (Component) ComponentTranslator.translator().translateLegacy(frame)).toList(), interval);
+    }
+
+    /**
+     * Creates a new {@link Animation} scrolling the text from right to left through a window of a fixed width.
+     * Once the end is reached, the text starts again after a gap of spaces.
+     *
+     * @param text     The text to scroll
+     * @param width    The width of the visible window in chars
+     * @param style    The style of the text
+     * @param interval The amount of ticks the text stays before moving on by one char
+     * @return The animation
+     */
+    @Contract(value = "_, _, _, _ -> new", pure = true)
+    public static @NotNull Animation marquee(@NotNull String text, int width, @NotNull Style style, int interval) {
+        if (text.length() <= width) return new Animation(List.of(Component.text(text, style)), interval);
+
+        String loop = text + " ".repeat(Math.max(1, width / 2));
+        String doubled = loop + loop;
+
+        List<Component> frames = new ArrayList<>(loop.length());
+        for (int start = 0; start < loop.length(); start++) {
+            frames.add(Component.text(doubled.substring(start, start + width), style));
+        }
+        return new Animation(frames, interval);
+    }
+
+    /**
+     * Creates a new {@link Animation} sweeping a highlight color over the text from left to right, char by char.
+     * The last frame shows the text without highlight.
+     *
+     * @param text      The text to sweep over
+     * @param base      The base color of the text
+     * @param highlight The color of the highlighted char
+     * @param interval  The amount of ticks the highlight stays on a char
+     * @return The animation
+     */
+    @Contract(value = "_, _, _, _ -> new", pure = true)
+    public static @NotNull Animation colorSweep(@NotNull String text, @NotNull TextColor base, @NotNull TextColor highlight, int interval) {
+        List<Component> frames = new ArrayList<>(text.length() + 1);
+
+        for (int index = 0; index < text.length(); index++) {
+            TextComponent.Builder builder = Component.text().color(base);
+            if (index > 0) builder.append(Component.text(text.substring(0, index)));
+
+            builder.append(Component.text(text.charAt(index), highlight));
+
+            if (index < text.length() - 1) builder.append(Component.text(text.substring(index + 1)));
+            frames.add(builder.build());
+        }
+
+        frames.add(Component.text(text, base));
+        return new Animation(frames, interval);
+    }
+
+    /**
+     * Returns the frame visible in the current server tick.
+     *
+     * @return The current frame
+     */
+    public @NotNull Component current() {
+        return frame(Bukkit.getCurrentTick());
+    }
+
+    /**
+     * Returns the frame visible in the tick.
+     *
+     * @param tick The tick
+     * @return The frame
+     */
+    public @NotNull Component frame(long tick) {
+        return frames.get(index(tick));
+    }
+
+    /**
+     * Returns whether a different frame becomes visible in the tick than in the tick before. Equal consecutive frames do not count as change.
+     *
+     * @param tick The tick
+     * @return {@code true} if the visible frame changes in the tick. Otherwise, {@code false}.
+     */
+    public boolean changes(long tick) {
+        if (frames.size() == 1 || tick % interval != 0) return false;
+        return !frames.get(index(tick)).equals(frames.get(index(tick - 1)));
+    }
+
+    /**
+     * Returns the pre-rendered frames of the animation.
+     *
+     * @return The frames
+     */
+    public @NotNull List<Component> frames() {
+        return frames;
+    }
+
+    /**
+     * Returns the amount of ticks a single frame is shown.
+     *
+     * @return The interval
+     */
+    public int interval() {
+        return interval;
+    }
+
+    /**
+     * Returns the index of the frame visible in the tick.
+     *
+     * @param tick The tick
+     * @return The index of the frame
+     */
+    private int index(long tick) {
+        return (int) Math.floorMod(Math.floorDiv(tick, interval), (long) frames.size());
+    }
+}
@@ -0,0 +1,157 @@
+package eu.syplex.scoreboard.backend;
+
+import eu.syplex.scoreboard.render.SidebarFrame;
+import eu.syplex.scoreboard.render.SidebarLine;
+import eu.syplex.scoreboard.util.SidebarEntries;
+import net.kyori.adventure.text.Component;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.scoreboard.*;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Represents the default {@link SidebarBackend} applying frames to the teams and objective of the bukkit {@link Scoreboard}. <br>
+ * Viewers are shown the scoreboard itself and reset to the main scoreboard when it is hidden.
+ *
+ * @version 1.0.0
+ * @since 1.3.0
+ */
+public class BukkitSidebarBackend implements SidebarBackend {
+
+    private static BukkitSidebarBackend bukkitBackend = null;
+
+    /**
+     * Instantiates a new singleton {@link BukkitSidebarBackend}.
+     */
+    private BukkitSidebarBackend() {
+        bukkitBackend = this;
+    }
+
+    /**
+     * Returns the singleton instance of the {@link BukkitSidebarBackend}.
+     *
+     * @return The singleton instance
+     */
+    public static BukkitSidebarBackend bukkitBackend() {
+        if (bukkitBackend == null) bukkitBackend = new BukkitSidebarBackend();
+        return bukkitBackend;
+    }
+
+    /**
+     * {@inheritDoc}
+     * The scoreboard is a new scoreboard of the bukkit scoreboard manager.
+     *
+     * @return The new scoreboard
+     */
+    @Override
+    public @NotNull Scoreboard scoreboard() {
+        return Bukkit.getScoreboardManager().getNewScoreboard();
+    }
+
+    /**
+     * {@inheritDoc}
+     * The viewer is shown the scoreboard itself.
+     *
+     * @param viewer     The viewer
+     * @param scoreboard The scoreboard
+     * @param frame      The frame currently applied to the scoreboard or null if nothing was applied yet
+     */
+    @Override
+    public void show(@NotNull UUID viewer, @NotNull Scoreboard scoreboard, @Nullable SidebarFrame frame) {
+        Player player = Bukkit.getPlayer(viewer);
+        if (player != null) player.setScoreboard(scoreboard);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The viewer is reset to the main bukkit scoreboard.
+     *
+     * @param viewer     The viewer
+     * @param scoreboard The scoreboard
+     */
+    @Override
+    public void hide(@NotNull UUID viewer, @NotNull Scoreboard scoreboard) {
+        Player player = Bukkit.getPlayer(viewer);
+        if (player != null) player.setScoreboard(Bukkit.getScoreboardManager().getMainScoreboard());
+    }
+
+    /**
+     * {@inheritDoc}
+     * Only teams whose prefix or suffix changed are updated and only trailing entries are added or removed if the amount of lines changes.
+     * The top line is stored in the team {@code line0} and has the highest score. Entries, team names and scores are taken from {@link SidebarEntries}.
+     *
+     * @param scoreboard The scoreboard
+     * @param viewers    The viewers of the scoreboard. Not needed, since they are shown the scoreboard itself
+     * @param previous   The previously applied frame or null if nothing was applied yet
+     * @param frame      The frame to apply
+     */
+    @Override
+    public void apply(@NotNull Scoreboard scoreboard, @NotNull Collection<UUID> viewers, @Nullable SidebarFrame previous, @NotNull SidebarFrame frame) {
+        Objective objective = dummyObjective(scoreboard);
+        if (previous == null || !previous.title().equals(frame.title())) objective.displayName(frame.title());
+        if (objective.getDisplaySlot() != DisplaySlot.SIDEBAR) objective.setDisplaySlot(DisplaySlot.SIDEBAR);
+
+        int size = frame.size();
+        int previousSize = previous == null ? 0 : previous.size();
+
+        for (int index = 0; index < size; index++) {
+            SidebarLine line = frame.line(index);
+            SidebarLine old = index < previousSize ? previous.line(index) : null;
+            String entry = SidebarEntries.entry(index);
+
+            Team team = scoreboard.getTeam(SidebarEntries.team(index));
+            boolean fresh = team == null || old == null;
+            if (fresh) team = lineTeam(scoreboard, index, entry);
+
+            if (fresh || !line.prefix().equals(old.prefix())) team.prefix(line.prefix());
+            if (fresh || !line.suffix().equals(old.suffix())) team.suffix(line.suffix());
+            if (fresh) objective.getScore(entry).setScore(SidebarEntries.score(index));
+        }
+
+        for (int index = size; index < previousSize; index++) {
+            scoreboard.resetScores(SidebarEntries.entry(index));
+
+            Team team = scoreboard.getTeam(SidebarEntries.team(index));
+            if (team != null) team.unregister();
+        }
+    }
+
+    /**
+     * Returns the team of a line. It will be created if not present on the scoreboard and always contains only the entry of the line.
+     *
+     * @param scoreboard The scoreboard
+     * @param index      The index of the line
+     * @param entry      The entry of the line
+     * @return The team of the line
+     */
+    public static @NotNull Team lineTeam(@NotNull Scoreboard scoreboard, int index, @NotNull String entry) {
+        Team team = scoreboard.getTeam(SidebarEntries.team(index));
+        if (team == null) team = scoreboard.registerNewTeam(SidebarEntries.team(index));
+
+        if (!team.hasEntry(entry)) {
+            team.getEntries().forEach(team::removeEntry);
+            team.addEntry(entry);
+        }
+        return team;
+    }
+
+    /**
+     * Returns a dummy objective. It will be created if not present on the scoreboard, otherwise only returned.
+     *
+     * @param scoreboard The scoreboard
+     * @return A dummy objective
+     */
+    public static @NotNull Objective dummyObjective(@NotNull Scoreboard scoreboard) {
+        Objective objective = scoreboard.getObjective("dummy");
+
+        if (objective == null) {
+            objective = scoreboard.registerNewObjective("dummy", Criteria.DUMMY, Component.empty());
+        }
+
+        return objective;
+    }
+}
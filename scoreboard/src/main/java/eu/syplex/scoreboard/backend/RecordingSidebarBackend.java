@@ -0,0 +1,166 @@
+package eu.syplex.scoreboard.backend;
+
+import eu.syplex.scoreboard.render.SidebarFrame;
+import org.bukkit.scoreboard.Scoreboard;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Represents an in-memory {@link SidebarBackend} recording every call instead of showing anything, e.g. for tests and benchmarks without a server. <br>
+ * Besides the log of all calls, the last applied frame and the current viewers of every scoreboard are kept.
+ * To run a board without a server, its {@link eu.syplex.scoreboard.BoardEnvironment} has to be set as well, so the board neither asks the server
+ * for the main thread nor for its players.
+ *
+ * @version 1.0.0
+ * @since 1.3.0
+ */
+public class RecordingSidebarBackend implements SidebarBackend {
+
+    private final List<Call> calls = new ArrayList<>();
+    private final Map<Scoreboard, SidebarFrame> frames = new ConcurrentHashMap<>();
+    private final Map<Scoreboard, Set<UUID>> viewers = new ConcurrentHashMap<>();
+
+    /**
+     * {@inheritDoc}
+     * The scoreboard is a {@link VirtualScoreboard}, so no server is needed.
+     *
+     * @return The new scoreboard
+     */
+    @Override
+    public @NotNull Scoreboard scoreboard() {
+        return VirtualScoreboard.create();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param viewer     The viewer
+     * @param scoreboard The scoreboard
+     * @param frame      The frame currently applied to the scoreboard or null if nothing was applied yet
+     */
+    @Override
+    public void show(@NotNull UUID viewer, @NotNull Scoreboard scoreboard, @Nullable SidebarFrame frame) {
+        viewers.computeIfAbsent(scoreboard, key -> ConcurrentHashMap.newKeySet()).add(viewer);
+        record(new Call(Type.SHOW, scoreboard, List.of(viewer), frame));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param viewer     The viewer
+     * @param scoreboard The scoreboard
+     */
+    @Override
+    public void hide(@NotNull UUID viewer, @NotNull Scoreboard scoreboard) {
+        Set<UUID> shown = viewers.get(scoreboard);
+        if (shown != null) shown.remove(viewer);
+
+        record(new Call(Type.HIDE, scoreboard, List.of(viewer), null));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param scoreboard The scoreboard
+     * @param viewers    The viewers of the scoreboard
+     * @param previous   The previously applied frame or null if nothing was applied yet
+     * @param frame      The frame to apply
+     */
+    @Override
+    public void apply(@NotNull Scoreboard scoreboard, @NotNull Collection<UUID> viewers, @Nullable SidebarFrame previous, @NotNull SidebarFrame frame) {
+        frames.put(scoreboard, frame);
+        record(new Call(Type.APPLY, scoreboard, List.copyOf(viewers), frame));
+    }
+
+    /**
+     * Returns a snapshot of all recorded calls in the order they were made.
+     *
+     * @return The recorded calls
+     */
+    public @NotNull List<Call> calls() {
+        synchronized (calls) {
+            return List.copyOf(calls);
+        }
+    }
+
+    /**
+     * Returns the amount of recorded calls of a type.
+     *
+     * @param type The type
+     * @return The amount of calls
+     */
+    public long count(@NotNull Type type) {
+        synchronized (calls) {
+            return calls.stream().filter(call -> call.type() == type).count();
+        }
+    }
+
+    /**
+     * Returns the frame applied last to the scoreboard. May be null if nothing was applied yet.
+     *
+     * @param scoreboard The scoreboard
+     * @return The last applied frame or null
+     */
+    public @Nullable SidebarFrame frame(@NotNull Scoreboard scoreboard) {
+        return frames.get(scoreboard);
+    }
+
+    /**
+     * Returns a snapshot of the viewers currently shown the scoreboard.
+     *
+     * @param scoreboard The scoreboard
+     * @return The viewers
+     */
+    public @NotNull Set<UUID> viewers(@NotNull Scoreboard scoreboard) {
+        Set<UUID> shown = viewers.get(scoreboard);
+        return shown == null ? Set.of() : Set.copyOf(shown);
+    }
+
+    /**
+     * Removes all recorded calls, frames and viewers.
+     */
+    public void clear() {
+        synchronized (calls) {
+            calls.clear();
+        }
+        frames.clear();
+        viewers.clear();
+    }
+
+    /**
+     * Records a call.
+     *
+     * @param call The call
+     */
+    private void record(@NotNull Call call) {
+        synchronized (calls) {
+            calls.add(call);
+        }
+    }
+
+    /**
+     * Represents the type of a recorded call.
+     */
+    public enum Type {
+        SHOW, HIDE, APPLY
+    }
+
+    /**
+     * Represents a recorded call.
+     *
+     * @param type       The type of the call
+     * @param scoreboard The scoreboard
+     * @param viewers    The viewers affected by the call
+     * @param frame      The frame shown or applied or null
+     */
+    public record Call(@NotNull Type type, @NotNull Scoreboard scoreboard, @NotNull List<UUID> viewers, @Nullable SidebarFrame frame) {
+    }
+}
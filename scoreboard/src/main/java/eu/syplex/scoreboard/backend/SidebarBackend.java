@@ -0,0 +1,59 @@
+package eu.syplex.scoreboard.backend;
+
+import eu.syplex.scoreboard.render.SidebarFrame;
+import org.bukkit.scoreboard.Scoreboard;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Represents the backend showing rendered {@link SidebarFrame}s to the viewers of a board. <br>
+ * The bukkit {@link Scoreboard} of a board is created by the backend and only used as key of its render state by the board.
+ * Whether it is a real scoreboard shown to the viewers or only a {@link VirtualScoreboard} while the sidebar is sent to them in another way,
+ * e.g. by packets, is up to the backend. All methods are called on the main thread.
+ *
+ * @version 1.0.0
+ * @since 1.3.0
+ * @see BukkitSidebarBackend
+ * @see VirtualSidebarBackend
+ * @see RecordingSidebarBackend
+ */
+public interface SidebarBackend {
+
+    /**
+     * Creates a new scoreboard for a board, e.g. when a board is shown for the first time or a player is added to a personal board.
+     *
+     * @return The new scoreboard
+     */
+    @NotNull Scoreboard scoreboard();
+
+    /**
+     * Shows the sidebar of the scoreboard to a viewer, e.g. when a player is added to a board.
+     *
+     * @param viewer     The viewer
+     * @param scoreboard The scoreboard
+     * @param frame      The frame currently applied to the scoreboard or null if nothing was applied yet
+     */
+    void show(@NotNull UUID viewer, @NotNull Scoreboard scoreboard, @Nullable SidebarFrame frame);
+
+    /**
+     * Hides the sidebar of the scoreboard from a viewer, e.g. when a player is removed from a board.
+     *
+     * @param viewer     The viewer
+     * @param scoreboard The scoreboard
+     */
+    void hide(@NotNull UUID viewer, @NotNull Scoreboard scoreboard);
+
+    /**
+     * Applies the difference between the previous and the next frame of the scoreboard to all of its viewers.
+     *
+     * @param scoreboard The scoreboard
+     * @param viewers    The viewers of the scoreboard
+     * @param previous   The previously applied frame or null if nothing was applied yet
+     * @param frame      The frame to apply
+     */
+    void apply(@NotNull Scoreboard scoreboard, @NotNull Collection<UUID> viewers, @Nullable SidebarFrame previous, @NotNull SidebarFrame frame);
+
+}
@@ -0,0 +1,45 @@
+package eu.syplex.scoreboard.backend;
+
+import org.bukkit.scoreboard.Scoreboard;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.reflect.Proxy;
+
+/**
+ * Utility class creating virtual bukkit {@link Scoreboard}s for backends not showing a scoreboard of the server. <br>
+ * A virtual scoreboard only serves as unique key of the render state of a board. It is not registered on the server,
+ * so creating it does not need a running server. Every method except {@code equals}, {@code hashCode} and {@code toString}
+ * throws an {@link UnsupportedOperationException}, so virtual scoreboards are never handed out by the public API of the boards.
+ *
+ * @version 1.0.0
+ * @since 1.3.0
+ */
+public final class VirtualScoreboard {
+
+    private VirtualScoreboard() {
+    }
+
+    /**
+     * Creates a new virtual scoreboard, which is only equal to itself.
+     *
+     * @return The virtual scoreboard
+     */
+    public static @NotNull Scoreboard create() {
+        return (Scoreboard) Proxy.newProxyInstance(Scoreboard.class.getClassLoader(), new Class<?>[]{Scoreboard.class}, (proxy, method, args) -> switch (method.getName()) {
+            case "equals" -> proxy == args[0];
+            case "hashCode" -> System.identityHashCode(proxy);
+            case "toString" -> "VirtualScoreboard@" + Integer.toHexString(System.identityHashCode(proxy));
+            default -> throw new UnsupportedOperationException("A virtual scoreboard cannot be used as bukkit scoreboard");
+        });
+    }
+
+    /**
+     * Returns whether the scoreboard is a virtual scoreboard.
+     *
+     * @param scoreboard The scoreboard
+     * @return {@code true} if the scoreboard is virtual. Otherwise, {@code false}.
+     */
+    public static boolean isVirtual(@NotNull Scoreboard scoreboard) {
+        return Proxy.isProxyClass(scoreboard.getClass());
+    }
+}
@@ -0,0 +1,199 @@
+package eu.syplex.scoreboard.backend;
+
+import eu.syplex.scoreboard.backend.packet.PacketSender;
+import eu.syplex.scoreboard.backend.packet.SidebarPacket;
+import eu.syplex.scoreboard.backend.packet.SidebarPacket.Mode;
+import eu.syplex.scoreboard.render.SidebarFrame;
+import eu.syplex.scoreboard.render.SidebarLine;
+import eu.syplex.scoreboard.util.SidebarEntries;
+import net.kyori.adventure.text.Component;
+import org.bukkit.scoreboard.Scoreboard;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Represents a virtual {@link SidebarBackend} describing the sidebar of every viewer as protocol independent {@link SidebarPacket}s,
+ * without creating or touching any bukkit scoreboard. <br>
+ * The backend remembers the last frame sent to each viewer and only passes the packets of the difference to its {@link PacketSender}, all at once.
+ * Writing the actual packets is up to the sender provided by the plugin, e.g. through a packet library, since the paper API has no access to packets.
+ * If the sender keeps the teams client side only, they neither cost any bookkeeping on the server nor conflict with teams of other plugins.
+ * A viewer can only see one sidebar of this backend at a time.
+ *
+ * @version 1.0.0
+ * @since 1.3.0
+ */
+public class VirtualSidebarBackend implements SidebarBackend {
+
+    private static final String OBJECTIVE = "plexboard";
+
+    private final PacketSender sender;
+    private final Map<UUID, SidebarFrame> sent = new ConcurrentHashMap<>();
+
+    /**
+     * Instantiates a new {@link VirtualSidebarBackend} passing its packets to the sender.
+     *
+     * @param sender The sender
+     */
+    public VirtualSidebarBackend(@NotNull PacketSender sender) {
+        this.sender = sender;
+    }
+
+    /**
+     * {@inheritDoc}
+     * The scoreboard is a {@link VirtualScoreboard}, so no scoreboard is created on the server.
+     *
+     * @return The new scoreboard
+     */
+    @Override
+    public @NotNull Scoreboard scoreboard() {
+        return VirtualScoreboard.create();
+    }
+
+    /**
+     * {@inheritDoc}
+     * The whole frame is sent to the viewer, if already present.
+     *
+     * @param viewer     The viewer
+     * @param scoreboard The scoreboard
+     * @param frame      The frame currently applied to the scoreboard or null if nothing was applied yet
+     */
+    @Override
+    public void show(@NotNull UUID viewer, @NotNull Scoreboard scoreboard, @Nullable SidebarFrame frame) {
+        if (frame != null) send(viewer, frame);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The objective and all line teams sent to the viewer are removed again.
+     *
+     * @param viewer     The viewer
+     * @param scoreboard The scoreboard
+     */
+    @Override
+    public void hide(@NotNull UUID viewer, @NotNull Scoreboard scoreboard) {
+        SidebarFrame last = sent.remove(viewer);
+        if (last == null) return;
+
+        List<SidebarPacket> packets = new ArrayList<>(last.size() + 1);
+        packets.add(new SidebarPacket.Objective(OBJECTIVE, Mode.REMOVE, Component.empty()));
+
+        for (int index = 0; index < last.size(); index++) {
+            packets.add(team(index, Mode.REMOVE, null));
+        }
+        dispatch(viewer, packets);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Each viewer is sent the difference to the frame it was sent last, so viewers which joined later are caught up as well.
+     *
+     * @param scoreboard The scoreboard
+     * @param viewers    The viewers of the scoreboard
+     * @param previous   The previously applied frame. Not needed, since the frames sent to each viewer are remembered
+     * @param frame      The frame to apply
+     */
+    @Override
+    public void apply(@NotNull Scoreboard scoreboard, @NotNull Collection<UUID> viewers, @Nullable SidebarFrame previous, @NotNull SidebarFrame frame) {
+        for (UUID viewer : viewers) {
+            send(viewer, frame);
+        }
+    }
+
+    /**
+     * Returns the amount of viewers currently sent a sidebar by this backend.
+     *
+     * @return The amount of viewers
+     */
+    public int viewers() {
+        return sent.size();
+    }
+
+    /**
+     * Sends the difference between the last sent frame and the frame to a viewer.
+     *
+     * @param viewer The viewer
+     * @param frame  The frame to send
+     */
+    private void send(@NotNull UUID viewer, @NotNull SidebarFrame frame) {
+        SidebarFrame last = sent.put(viewer, frame);
+        if (last == frame) return;
+
+        dispatch(viewer, diff(last, frame));
+    }
+
+    /**
+     * Creates the packets turning the last frame into the next one. The top line is stored in the team {@code line0} and has the highest score.
+     * Since scores are fixed per line, only added lines are sent a score.
+     *
+     * @param last  The last sent frame or null if nothing was sent yet
+     * @param frame The frame to send
+     * @return The packets
+     */
+    private @NotNull List<SidebarPacket> diff(@Nullable SidebarFrame last, @NotNull SidebarFrame frame) {
+        List<SidebarPacket> packets = new ArrayList<>();
+
+        if (last == null) {
+            packets.add(new SidebarPacket.Objective(OBJECTIVE, Mode.CREATE, frame.title()));
+            packets.add(new SidebarPacket.Display(OBJECTIVE));
+
+        } else if (!last.title().equals(frame.title())) {
+            packets.add(new SidebarPacket.Objective(OBJECTIVE, Mode.UPDATE, frame.title()));
+        }
+
+        int size = frame.size();
+        int lastSize = last == null ? 0 : last.size();
+
+        for (int index = 0; index < size; index++) {
+            SidebarLine line = frame.line(index);
+            SidebarLine old = index < lastSize ? last.line(index) : null;
+
+            if (old == null) {
+                packets.add(team(index, Mode.CREATE, line));
+                packets.add(new SidebarPacket.Score(OBJECTIVE, SidebarEntries.entry(index), SidebarEntries.score(index), false));
+
+            } else if (!line.equals(old)) {
+                packets.add(team(index, Mode.UPDATE, line));
+            }
+        }
+
+        for (int index = size; index < lastSize; index++) {
+            packets.add(new SidebarPacket.Score(OBJECTIVE, SidebarEntries.entry(index), 0, true));
+            packets.add(team(index, Mode.REMOVE, null));
+        }
+        return packets;
+    }
+
+    /**
+     * Creates a packet of a line team.
+     *
+     * @param index The index of the line
+     * @param mode  The mode
+     * @param line  The line or null if the team is removed
+     * @return The packet
+     */
+    private @NotNull SidebarPacket team(int index, @NotNull Mode mode, @Nullable SidebarLine line) {
+        Component prefix = line == null ? Component.empty() : line.prefix();
+        Component suffix = line == null ? Component.empty() : line.suffix();
+        List<String> entries = mode == Mode.CREATE ? List.of(SidebarEntries.entry(index)) : List.of();
+
+        return new SidebarPacket.Team(SidebarEntries.team(index), mode, prefix, suffix, entries);
+    }
+
+    /**
+     * Passes the packets to the sender at once. Nothing is sent if there are no packets.
+     *
+     * @param viewer  The viewer
+     * @param packets The packets
+     */
+    private void dispatch(@NotNull UUID viewer, @NotNull List<SidebarPacket> packets) {
+        if (packets.isEmpty()) return;
+        sender.send(viewer, List.copyOf(packets));
+    }
+}
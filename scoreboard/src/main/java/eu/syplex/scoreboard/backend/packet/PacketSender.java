@@ -0,0 +1,26 @@
+package eu.syplex.scoreboard.backend.packet;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Represents the bridge writing the {@link SidebarPacket}s of the {@link eu.syplex.scoreboard.backend.VirtualSidebarBackend} to a viewer,
+ * e.g. by translating them into packets of a packet library. It has to be provided by the plugin, since the paper API has no access to packets.
+ *
+ * @version 1.0.0
+ * @since 1.3.0
+ */
+@FunctionalInterface
+public interface PacketSender {
+
+    /**
+     * Sends the sidebar packets of one update to a viewer. Nothing should happen if the viewer is not online.
+     *
+     * @param viewer  The viewer
+     * @param packets The packets in the order they are applied
+     */
+    void send(@NotNull UUID viewer, @NotNull List<SidebarPacket> packets);
+
+}
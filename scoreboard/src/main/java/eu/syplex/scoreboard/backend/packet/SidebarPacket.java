@@ -0,0 +1,64 @@
+package eu.syplex.scoreboard.backend.packet;
+
+import net.kyori.adventure.text.Component;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * Represents a protocol independent sidebar packet emitted by the {@link eu.syplex.scoreboard.backend.VirtualSidebarBackend}. <br>
+ * Every packet maps to exactly one clientbound packet of the game, so a {@link PacketSender} only has to translate them one by one.
+ *
+ * @version 1.0.0
+ * @since 1.3.0
+ */
+public sealed interface SidebarPacket {
+
+    /**
+     * Represents the mode of an objective or team packet.
+     */
+    enum Mode {
+        CREATE, REMOVE, UPDATE
+    }
+
+    /**
+     * Represents a packet creating, removing or updating the sidebar objective.
+     *
+     * @param objective The name of the objective
+     * @param mode      The mode
+     * @param title     The title of the sidebar. Empty if the objective is removed
+     */
+    record Objective(@NotNull String objective, @NotNull Mode mode, @NotNull Component title) implements SidebarPacket {
+    }
+
+    /**
+     * Represents a packet displaying the objective in the sidebar slot.
+     *
+     * @param objective The name of the objective
+     */
+    record Display(@NotNull String objective) implements SidebarPacket {
+    }
+
+    /**
+     * Represents a packet setting or removing the score of an entry.
+     *
+     * @param objective The name of the objective
+     * @param entry     The entry
+     * @param score     The score. Ignored if the score is removed
+     * @param remove    Whether the score is removed
+     */
+    record Score(@NotNull String objective, @NotNull String entry, int score, boolean remove) implements SidebarPacket {
+    }
+
+    /**
+     * Represents a packet creating, removing or updating a line team.
+     *
+     * @param team    The name of the team
+     * @param mode    The mode
+     * @param prefix  The prefix of the team. Empty if the team is removed
+     * @param suffix  The suffix of the team. Empty if the team is removed
+     * @param entries The entries added to the team. Only sent if the team is created
+     */
+    record Team(@NotNull String team, @NotNull Mode mode, @NotNull Component prefix, @NotNull Component suffix, @NotNull List<String> entries) implements SidebarPacket {
+    }
+}
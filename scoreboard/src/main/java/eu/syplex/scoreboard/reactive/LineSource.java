@@ -0,0 +1,121 @@
+package eu.syplex.scoreboard.reactive;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Represents a value of a line that may be slow to compute, e.g. because it falls through to a database on a cache miss. <br>
+ * Every read starts a refresh on the executor and waits for it at most until the deadline. If the refresh is not ready in time,
+ * the last known value is returned and counted as stale render, while the refresh keeps running in the background.
+ * While a refresh is still running, no further refresh is started and reads only wait for the rest of its deadline,
+ * so a refresh which already missed its deadline returns the last known value right away. <br>
+ * To count the timeouts and stale renders of a source for a board, register it with {@link eu.syplex.scoreboard.PlexBoard#watch(LineSource...)}.
+ *
+ * @param <T> The datatype of the value
+ * @version 1.0.0
+ * @since 1.3.0
+ */
+public class LineSource<T> implements Supplier<T> {
+
+    private final Supplier<T> supplier;
+    private final long deadline;
+    private final Executor executor;
+
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder staleRenders = new LongAdder();
+
+    private volatile T value;
+    private CompletableFuture<T> refresh;
+    private long refreshStart;
+
+    /**
+     * Instantiates a new {@link LineSource}.
+     *
+     * @param supplier The supplier computing the value. Called on the executor only
+     * @param initial  The value returned until the first refresh completed or null
+     * @param deadline The maximum time a read waits for a refresh. Refreshes taking longer are counted as timeout
+     * @param executor The executor to refresh the value on
+     */
+    public LineSource(@NotNull Supplier<T> supplier, @Nullable T initial, @NotNull Duration deadline, @NotNull Executor executor) {
+        this.supplier = supplier;
+        this.value = initial;
+        this.deadline = deadline.toNanos();
+        this.executor = executor;
+    }
+
+    /**
+     * Starts a refresh, if none is running yet, and returns its value if it completes within the deadline.
+     * Otherwise, the last known value is returned and counted as stale render.
+     *
+     * @return The value
+     */
+    @Override
+    public T get() {
+        CompletableFuture<T> refresh;
+        long start;
+        synchronized (this) {
+            if (this.refresh == null || this.refresh.isDone()) {
+                this.refreshStart = System.nanoTime();
+                this.refresh = refresh(refreshStart);
+            }
+            refresh = this.refresh;
+            start = this.refreshStart;
+        }
+
+        long remaining = deadline - (System.nanoTime() - start);
+        if (remaining > 0) {
+            try {
+                return refresh.get(remaining, TimeUnit.NANOSECONDS);
+
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+
+            } catch (TimeoutException | ExecutionException exception) {
+                // The timeout is counted by the refresh, the last known value is kept if the supplier fails
+            }
+        }
+
+        staleRenders.increment();
+        return value;
+    }
+
+    /**
+     * Returns how often a refresh took longer than the deadline.
+     *
+     * @return The amount of timeouts
+     */
+    public long timeouts() {
+        return timeouts.sum();
+    }
+
+    /**
+     * Returns how often the last known value was returned, because the refresh was not ready within its deadline or failed.
+     *
+     * @return The amount of stale renders
+     */
+    public long staleRenders() {
+        return staleRenders.sum();
+    }
+
+    /**
+     * Starts a refresh of the value on the executor. The refresh is counted as timeout if it takes longer than the deadline.
+     *
+     * @param start The time the refresh was started at in nanoseconds
+     * @return The refresh, completed after the value was updated
+     */
+    private @NotNull CompletableFuture<T> refresh(long start) {
+        return CompletableFuture.supplyAsync(supplier, executor).whenComplete((result, failure) -> {
+            if (System.nanoTime() - start > deadline) timeouts.increment();
+            if (failure == null) value = result;
+        });
+    }
+}
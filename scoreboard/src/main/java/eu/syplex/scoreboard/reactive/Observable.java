@@ -0,0 +1,87 @@
+package eu.syplex.scoreboard.reactive;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.UnaryOperator;
+
+/**
+ * Represents a value that notifies its subscribers whenever it changes, e.g. a counter, a timer or a player statistic. <br>
+ * Setting a value equal to the current one does not notify anyone. Values may be changed from any thread.
+ *
+ * @param <T> The datatype of the value
+ * @version 1.0.0
+ * @since 1.3.0
+ */
+public class Observable<T> {
+
+    private final List<Runnable> subscribers = new CopyOnWriteArrayList<>();
+    private volatile T value;
+
+    /**
+     * Instantiates a new {@link Observable} with its initial value.
+     *
+     * @param value The initial value
+     */
+    public Observable(T value) {
+        this.value = value;
+    }
+
+    /**
+     * Returns the current value.
+     *
+     * @return The value
+     */
+    public T get() {
+        return value;
+    }
+
+    /**
+     * Sets the value and notifies all subscribers if it changed.
+     *
+     * @param value The new value
+     */
+    public void set(T value) {
+        synchronized (this) {
+            if (Objects.equals(this.value, value)) return;
+            this.value = value;
+        }
+
+        subscribers.forEach(Runnable::run);
+    }
+
+    /**
+     * Updates the value based on the current one and notifies all subscribers if it changed.
+     *
+     * @param operator The operator computing the new value
+     */
+    public void update(@NotNull UnaryOperator<T> operator) {
+        synchronized (this) {
+            T updated = operator.apply(value);
+            if (Objects.equals(value, updated)) return;
+            value = updated;
+        }
+
+        subscribers.forEach(Runnable::run);
+    }
+
+    /**
+     * Subscribes to changes of the value.
+     *
+     * @param subscriber The subscriber called after the value changed
+     */
+    public void subscribe(@NotNull Runnable subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    /**
+     * Unsubscribes from changes of the value.
+     *
+     * @param subscriber The subscriber to remove
+     */
+    public void unsubscribe(@NotNull Runnable subscriber) {
+        subscribers.remove(subscriber);
+    }
+}
@@ -0,0 +1,54 @@
+package eu.syplex.scoreboard.reactive;
+
+import org.bukkit.Bukkit;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.Supplier;
+
+/**
+ * Represents a value of a line with a maximum update frequency, e.g. a line that does not need to change every update of its board. <br>
+ * The supplier is called at most once every {@link #minInterval} ticks. In between, the last computed value is returned.
+ *
+ * @param <T> The datatype of the value
+ * @version 1.0.0
+ * @since 1.3.0
+ * @see eu.syplex.scoreboard.RefreshPolicy
+ */
+public class ThrottledSource<T> implements Supplier<T> {
+
+    private final Supplier<T> supplier;
+    private final long minInterval;
+
+    private volatile T value;
+    private volatile long computed = Long.MIN_VALUE;
+
+    /**
+     * Instantiates a new {@link ThrottledSource}.
+     *
+     * @param supplier    The supplier computing the value
+     * @param minInterval The minimum amount of ticks between two calls of the supplier
+     */
+    public ThrottledSource(@NotNull Supplier<T> supplier, long minInterval) {
+        this.supplier = supplier;
+        this.minInterval = Math.max(1, minInterval);
+    }
+
+    /**
+     * Returns the value computed last, or computes a new one if it is older than the {@link #minInterval}.
+     *
+     * @return The value
+     */
+    @Override
+    public T get() {
+        long tick = Bukkit.getCurrentTick();
+        if (computed != Long.MIN_VALUE && tick - computed < minInterval) return value;
+
+        synchronized (this) {
+            if (computed != Long.MIN_VALUE && tick - computed < minInterval) return value;
+
+            value = supplier.get();
+            computed = tick;
+        }
+        return value;
+    }
+}
@@ -0,0 +1,184 @@
+package eu.syplex.scoreboard.render;
+
+import org.bukkit.scoreboard.Scoreboard;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Represents the store of the render state of all scoreboards of a board. <br>
+ * Every state holds the last applied {@link SidebarFrame} of a scoreboard, optionally the player owning it and a generation unique to it.
+ * A scoreboard tracked again, e.g. after it was taken from a {@link eu.syplex.scoreboard.ScoreboardPool} by another player, gets a new generation.
+ * States are kept until they are released, so a board has to release them if a player is removed or the board is destroyed.
+ * The store can be read from any thread.
+ *
+ * @version 1.0.0
+ * @since 1.3.0
+ */
+public class BoardStateStore {
+
+    private static final AtomicLong GENERATIONS = new AtomicLong();
+
+    private final Map<Scoreboard, State> states = new ConcurrentHashMap<>();
+    private final Map<UUID, State> owners = new ConcurrentHashMap<>();
+
+    /**
+     * Starts tracking a scoreboard. If the owner already owns a scoreboard, the state of it is released.
+     *
+     * @param owner      The player owning the scoreboard or null if the scoreboard is shared
+     * @param scoreboard The scoreboard to track
+     * @return The scoreboard previously owned by the owner or null
+     */
+    public @Nullable Scoreboard track(@Nullable UUID owner, @NotNull Scoreboard scoreboard) {
+        State state = new State(owner, scoreboard);
+        states.put(scoreboard, state);
+
+        if (owner == null) return null;
+
+        State previous = owners.put(owner, state);
+        if (previous == null || previous.scoreboard == scoreboard) return null;
+
+        states.remove(previous.scoreboard);
+        return previous.scoreboard;
+    }
+
+    /**
+     * Returns whether the scoreboard is tracked by this store.
+     *
+     * @param scoreboard The scoreboard
+     * @return {@code true} if the scoreboard is tracked. Otherwise, {@code false}.
+     */
+    public boolean contains(@NotNull Scoreboard scoreboard) {
+        return states.containsKey(scoreboard);
+    }
+
+    /**
+     * Returns the last applied frame of the scoreboard. May be null if nothing was applied yet or the scoreboard is not tracked.
+     *
+     * @param scoreboard The scoreboard
+     * @return The last applied frame or null
+     */
+    public @Nullable SidebarFrame frame(@NotNull Scoreboard scoreboard) {
+        State state = states.get(scoreboard);
+        return state == null ? null : state.frame;
+    }
+
+    /**
+     * Sets the last applied frame of the scoreboard. Nothing happens if the scoreboard is not tracked, e.g. because it was released in the meantime.
+     *
+     * @param scoreboard The scoreboard
+     * @param frame      The applied frame
+     */
+    public void frame(@NotNull Scoreboard scoreboard, @NotNull SidebarFrame frame) {
+        states.computeIfPresent(scoreboard, (key, state) -> {
+            state.frame = frame;
+            return state;
+        });
+    }
+
+    /**
+     * Returns the generation of the state of the scoreboard. It changes whenever the scoreboard is tracked again,
+     * so work started for a previous owner of the scoreboard can be detected and dropped.
+     *
+     * @param scoreboard The scoreboard
+     * @return The generation or {@code 0} if the scoreboard is not tracked
+     */
+    public long generation(@NotNull Scoreboard scoreboard) {
+        State state = states.get(scoreboard);
+        return state == null ? 0 : state.generation;
+    }
+
+    /**
+     * Returns the scoreboard owned by the player. May be null.
+     *
+     * @param owner The player owning the scoreboard
+     * @return The scoreboard or null
+     */
+    public @Nullable Scoreboard scoreboard(@NotNull UUID owner) {
+        State state = owners.get(owner);
+        return state == null ? null : state.scoreboard;
+    }
+
+    /**
+     * Returns the player owning the scoreboard. May be null if the scoreboard is shared or not tracked.
+     *
+     * @param scoreboard The scoreboard
+     * @return The owner or null
+     */
+    public @Nullable UUID owner(@NotNull Scoreboard scoreboard) {
+        State state = states.get(scoreboard);
+        return state == null ? null : state.owner;
+    }
+
+    /**
+     * Returns a snapshot of all tracked scoreboards.
+     *
+     * @return The tracked scoreboards
+     */
+    public @NotNull Collection<Scoreboard> scoreboards() {
+        return List.copyOf(states.keySet());
+    }
+
+    /**
+     * Releases the state of the scoreboard owned by the player.
+     *
+     * @param owner The player owning the scoreboard
+     * @return The released scoreboard or null if the player did not own one
+     */
+    public @Nullable Scoreboard release(@NotNull UUID owner) {
+        State state = owners.remove(owner);
+        if (state == null) return null;
+
+        states.remove(state.scoreboard);
+        return state.scoreboard;
+    }
+
+    /**
+     * Releases the state of the scoreboard.
+     *
+     * @param scoreboard The scoreboard
+     */
+    public void release(@NotNull Scoreboard scoreboard) {
+        State state = states.remove(scoreboard);
+        if (state != null && state.owner != null) owners.remove(state.owner, state);
+    }
+
+    /**
+     * Releases all states.
+     */
+    public void clear() {
+        states.clear();
+        owners.clear();
+    }
+
+    /**
+     * Returns the amount of tracked scoreboards.
+     *
+     * @return The size of the store
+     */
+    public int size() {
+        return states.size();
+    }
+
+    /**
+     * Represents the render state of a single scoreboard.
+     */
+    private static final class State {
+
+        private final @Nullable UUID owner;
+        private final @NotNull Scoreboard scoreboard;
+        private final long generation = GENERATIONS.incrementAndGet();
+        private volatile SidebarFrame frame;
+
+        private State(@Nullable UUID owner, @NotNull Scoreboard scoreboard) {
+            this.owner = owner;
+            this.scoreboard = scoreboard;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package eu.syplex.scoreboard.render;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Represents a size bounded cache of rendered sidebar lines keyed by their renderer and raw legacy string and shared by all boards. <br>
+ * Boards rendering lines in the same way pass the same renderer key, so only they share their lines. If the cache is full,
+ * the least recently used line is evicted. Rendered lines only consist of immutable components, so sharing them between boards and threads is safe.
+ *
+ * @version 1.0.0
+ * @since 1.3.0
+ */
+public class LineCache {
+
+    /**
+     * The default amount of lines kept in the cache
+     */
+    public static final int DEFAULT_SIZE = 1024;
+
+    private static final LineCache lineCache = new LineCache();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final Map<Key, SidebarLine> lines = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, SidebarLine> eldest) {
+            return size() > maxSize;
+        }
+    };
+
+    private volatile int maxSize = DEFAULT_SIZE;
+
+    /**
+     * Instantiates a new singleton {@link LineCache}.
+     */
+    private LineCache() {
+    }
+
+    /**
+     * Returns the singleton instance of the {@link LineCache}.
+     *
+     * @return The singleton instance
+     */
+    public static LineCache lineCache() {
+        return lineCache;
+    }
+
+    /**
+     * Returns the rendered line of the raw string. If not cached yet, the line is rendered and cached.
+     *
+     * @param key      The key identifying the renderer, e.g. the class translating the line. Equal keys must render equal strings equally
+     * @param raw      The raw legacy string
+     * @param renderer The function rendering the raw string on a miss
+     * @return The rendered line
+     */
+    public @NotNull SidebarLine line(@NotNull Object key, @NotNull String raw, @NotNull Function<@NotNull String, @NotNull SidebarLine> renderer) {
+        Key cacheKey = new Key(key, raw);
+
+        SidebarLine line;
+        synchronized (lines) {
+            line = lines.get(cacheKey);
+        }
+
+        if (line != null) {
+            hits.increment();
+            return line;
+        }
+
+        misses.increment();
+        line = renderer.apply(raw);
+
+        synchronized (lines) {
+            lines.put(cacheKey, line);
+        }
+        return line;
+    }
+
+    /**
+     * Configures the maximum amount of lines kept in the cache. Lines exceeding it are evicted with the next insertion.
+     *
+     * @param maxSize The new maximum size
+     * @return The current instance
+     */
+    public LineCache maxSize(int maxSize) {
+        this.maxSize = Math.max(0, maxSize);
+        return this;
+    }
+
+    /**
+     * Returns the configured maximum amount of lines kept in the cache or {@link #DEFAULT_SIZE}.
+     *
+     * @return The maximum size
+     */
+    public int maxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Returns the amount of lines currently cached.
+     *
+     * @return The size of the cache
+     */
+    public int size() {
+        synchronized (lines) {
+            return lines.size();
+        }
+    }
+
+    /**
+     * Returns how often a line was served from the cache.
+     *
+     * @return The amount of hits
+     */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns how often a line had to be rendered.
+     *
+     * @return The amount of misses
+     */
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * Removes all cached lines and resets the counters.
+     */
+    public void clear() {
+        synchronized (lines) {
+            lines.clear();
+        }
+        hits.reset();
+        misses.reset();
+    }
+
+    /**
+     * Represents the key of a cached line.
+     *
+     * @param renderer The key identifying the renderer
+     * @param raw      The raw legacy string
+     */
+    private record Key(@NotNull Object renderer, @NotNull String raw) {
+    }
+}
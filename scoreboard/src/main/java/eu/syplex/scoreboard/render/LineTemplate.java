@@ -0,0 +1,187 @@
+package eu.syplex.scoreboard.render;
+
+import eu.syplex.common.translator.ComponentTranslator;
+import eu.syplex.scoreboard.util.LegacyColorUtil;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.Style;
+import net.kyori.adventure.text.format.TextColor;
+import net.kyori.adventure.text.format.TextDecoration;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Represents a legacy line compiled once into static pre-rendered components and placeholder slots, e.g. {@code &7Coins: &e{coins}}. <br>
+ * Rendering the template only evaluates the placeholders and splices them into the cached components.
+ * Every slot keeps the color and formats active at its position in the legacy line.
+ *
+ * @version 1.0.0
+ * @since 1.3.0
+ */
+public class LineTemplate {
+
+    private static final NamedTextColor[] COLORS = {
+            NamedTextColor.BLACK, NamedTextColor.DARK_BLUE, NamedTextColor.DARK_GREEN, NamedTextColor.DARK_AQUA,
+            NamedTextColor.DARK_RED, NamedTextColor.DARK_PURPLE, NamedTextColor.GOLD, NamedTextColor.GRAY,
+            NamedTextColor.DARK_GRAY, NamedTextColor.BLUE, NamedTextColor.GREEN, NamedTextColor.AQUA,
+            NamedTextColor.RED, NamedTextColor.LIGHT_PURPLE, NamedTextColor.YELLOW, NamedTextColor.WHITE
+    };
+
+    private static final TextDecoration[] DECORATIONS = {
+            TextDecoration.OBFUSCATED, TextDecoration.BOLD, TextDecoration.STRIKETHROUGH, TextDecoration.UNDERLINED, TextDecoration.ITALIC
+    };
+
+    private static final char[] FORMAT_CODES = {'k', 'l', 'm', 'n', 'o'};
+
+    private final List<Component> segments;
+    private final List<Slot> slots;
+
+    /**
+     * Instantiates a new {@link LineTemplate} from its compiled parts.
+     *
+     * @param segments The static segments. There is always one segment more than slots
+     * @param slots    The placeholder slots between the segments
+     */
+    private LineTemplate(@NotNull List<Component> segments, @NotNull List<Slot> slots) {
+        this.segments = List.copyOf(segments);
+        this.slots = List.copyOf(slots);
+    }
+
+    /**
+     * Compiles a legacy line with placeholders in curly brackets, e.g. {@code &7Coins: &e{coins}}. An unclosed bracket is kept as text.
+     *
+     * @param line The legacy line
+     * @return The compiled template
+     */
+    @Contract(value = "_ -> new", pure = true)
+    public static @NotNull LineTemplate compile(@NotNull String line) {
+        List<Component> segments = new ArrayList<>();
+        List<Slot> slots = new ArrayList<>();
+
+        int segmentStart = 0;
+        int open = line.indexOf('{');
+        while (open != -1) {
+            int close = line.indexOf('}', open + 1);
+            if (close == -1) break;
+
+            segments.add(segment(line, segmentStart, open));
+            slots.add(new Slot(line.substring(open + 1, close), style(LegacyColorUtil.state(line, open))));
+
+            segmentStart = close + 1;
+            open = line.indexOf('{', segmentStart);
+        }
+
+        segments.add(segment(line, segmentStart, line.length()));
+        return new LineTemplate(segments, slots);
+    }
+
+    /**
+     * Renders the template with the values of the resolver. Values being components are inserted as they are, all other values as their string.
+     * A placeholder without value is rendered empty.
+     *
+     * @param resolver The resolver returning the value of a placeholder by its name
+     * @return The rendered line
+     */
+    public @NotNull Component render(@NotNull Function<@NotNull String, @Nullable Object> resolver) {
+        if (slots.isEmpty()) return segments.get(0);
+
+        TextComponent.Builder builder = Component.text();
+        for (int index = 0; index < slots.size(); index++) {
+            builder.append(segments.get(index));
+
+            Slot slot = slots.get(index);
+            Object value = resolver.apply(slot.name());
+
+            if (value instanceof Component component) builder.append(Component.text().style(slot.style()).append(component));
+            else builder.append(Component.text(value == null ? "" : String.valueOf(value), slot.style()));
+        }
+
+        return builder.append(segments.get(slots.size())).build();
+    }
+
+    /**
+     * Renders the template with the values of the map.
+     *
+     * @param values The values of the placeholders by their name
+     * @return The rendered line
+     * @see #render(Function)
+     */
+    public @NotNull Component render(@NotNull Map<String, ?> values) {
+        return render(values::get);
+    }
+
+    /**
+     * Renders a list of templates with the values of the same resolver.
+     *
+     * @param templates The templates
+     * @param resolver  The resolver returning the value of a placeholder by its name
+     * @return The rendered lines
+     * @see #render(Function)
+     */
+    public static @NotNull List<Component> render(@NotNull List<LineTemplate> templates, @NotNull Function<@NotNull String, @Nullable Object> resolver) {
+        List<Component> lines = new ArrayList<>(templates.size());
+        for (LineTemplate template : templates) {
+            lines.add(template.render(resolver));
+        }
+        return lines;
+    }
+
+    /**
+     * Returns the names of all placeholders in the order they appear in.
+     *
+     * @return The names of the placeholders
+     */
+    public @NotNull List<String> placeholders() {
+        return slots.stream().map(Slot::name).toList();
+    }
+
+    /**
+     * Translates a static part of the line. The codes active at its start are prepended, so the part renders like in the whole line.
+     *
+     * @param line  The legacy line
+     * @param start The start of the part
+     * @param end   The end of the part
+     * @return The translated part
+     */
+    private static @NotNull Component segment(@NotNull String line, int start, int end) {
+        String codes = start == 0 ? "" : LegacyColorUtil.codes(LegacyColorUtil.state(line, start));
+        return ComponentTranslator.translator().translateLegacy(codes + line.substring(start, end));
+    }
+
+    /**
+     * Creates the style of a packed legacy state.
+     *
+     * @param state The packed state
+     * @return The style
+     * @see LegacyColorUtil#state(CharSequence, int)
+     */
+    private static @NotNull Style style(long state) {
+        Style.Builder builder = Style.style();
+
+        if (LegacyColorUtil.hasColor(state)) {
+            int color = LegacyColorUtil.color(state);
+            builder.color(LegacyColorUtil.hexColor(state) ? TextColor.color(color) : COLORS[color]);
+        }
+
+        for (int format = 0; format < FORMAT_CODES.length; format++) {
+            if (LegacyColorUtil.hasFormat(state, FORMAT_CODES[format])) builder.decoration(DECORATIONS[format], true);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Represents a placeholder slot.
+     *
+     * @param name  The name of the placeholder
+     * @param style The style active at the position of the placeholder
+     */
+    private record Slot(@NotNull String name, @NotNull Style style) {
+    }
+}
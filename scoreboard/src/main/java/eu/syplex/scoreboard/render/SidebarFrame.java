@@ -0,0 +1,50 @@
+package eu.syplex.scoreboard.render;
+
+import net.kyori.adventure.text.Component;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * Represents an immutable snapshot of everything rendered onto a sidebar.
+ * The previous frame of a scoreboard is compared with the next one to only update what actually changed.
+ *
+ * @param title  The title of the sidebar
+ * @param source The legacy or component lines the frame was rendered from
+ * @param lines  The rendered lines from top to bottom
+ * @version 1.0.0
+ * @since 1.3.0
+ */
+public record SidebarFrame(@NotNull Component title, @NotNull List<?> source, @NotNull List<SidebarLine> lines) {
+
+    /**
+     * Instantiates a new {@link SidebarFrame} and copies the given lists to keep the frame immutable.
+     *
+     * @param title  The title of the sidebar
+     * @param source The legacy or component lines the frame was rendered from
+     * @param lines  The rendered lines from top to bottom
+     */
+    public SidebarFrame {
+        source = List.copyOf(source);
+        lines = List.copyOf(lines);
+    }
+
+    /**
+     * Returns the amount of lines in this frame.
+     *
+     * @return The amount of lines
+     */
+    public int size() {
+        return lines.size();
+    }
+
+    /**
+     * Returns the rendered line at the given index, counted from the top of the sidebar.
+     *
+     * @param index The index of the line
+     * @return The rendered line
+     */
+    public @NotNull SidebarLine line(int index) {
+        return lines.get(index);
+    }
+}
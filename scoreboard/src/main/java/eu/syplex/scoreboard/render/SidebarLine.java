@@ -0,0 +1,27 @@
+package eu.syplex.scoreboard.render;
+
+import net.kyori.adventure.text.Component;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Represents a single rendered line of a sidebar, stored in the prefix and suffix of its line team.
+ *
+ * @param prefix The prefix of the line team
+ * @param suffix The suffix of the line team
+ * @version 1.0.0
+ * @since 1.3.0
+ */
+public record SidebarLine(@NotNull Component prefix, @NotNull Component suffix) {
+
+    /**
+     * Creates a new line storing the whole component in the prefix. Since 1.13, team prefixes are not limited in length, so the line does not have to be split.
+     *
+     * @param line The line
+     * @return The rendered line
+     */
+    @Contract(value = "_ -> new", pure = true)
+    public static @NotNull SidebarLine of(@NotNull Component line) {
+        return new SidebarLine(line, Component.empty());
+    }
+}
@@ -1,13 +1,15 @@
 package eu.syplex.scoreboard.util;
 
+import eu.syplex.common.data.Pair;
 import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
 import org.jetbrains.annotations.NotNull;
-import org.jetbrains.annotations.Nullable;
 
 /**
- * Utility class to work with legacy colors
+ * Utility class to work with legacy colors. <br>
+ * Strings are tokenized in a single forward pass. The active color and formats at an offset are returned as a packed {@code long} state,
+ * so querying them does not allocate. Hex colors are supported in the {@code &x&r&r&g&g&b&b} format.
  *
- * @version 1.0.0
+ * @version 1.1.0
  * @since 1.2.2
  */
 public class LegacyColorUtil {
@@ -17,61 +19,208 @@ public class LegacyColorUtil {
      */
     public static final char LEGACY_CHAR = LegacyComponentSerializer.AMPERSAND_CHAR;
 
+    private static final String COLORS = "0123456789abcdef";
+    private static final String FORMATS = "klmno";
+    private static final int HEX_LENGTH = 14;
+
+    private static final long COLOR_MASK = 0xFFFFFFL;
+    private static final long HAS_COLOR = 1L << 24;
+    private static final long HEX_COLOR = 1L << 25;
+    private static final int FORMAT_SHIFT = 26;
+    private static final long STATE_MASK = (1L << 32) - 1;
+    private static final int POSITION_SHIFT = 32;
+
     /**
      * Returns the last used color of an input string.
      *
      * @param input The input string
-     * @return The last used color code with the legacy color char
+     * @return The last used color code and all formats applied after it with the legacy color char
      */
     public static String lastColor(@NotNull String input) {
-        StringBuilder result = new StringBuilder();
-        int length = input.length();
+        return codes(state(input, input.length()));
+    }
 
-        for (int index = length - 1; index > -1; index--) {
-            char section = input.charAt(index);
-            if (section == LEGACY_CHAR && index < length - 1) {
+    /**
+     * Returns the color and formats active at the given offset of the input. Codes not ending before the offset are not applied.
+     *
+     * @param input  The input
+     * @param offset The offset
+     * @return The packed state
+     * @see #hasColor(long)
+     * @see #hexColor(long)
+     * @see #color(long)
+     * @see #hasFormat(long, char)
+     */
+    public static long state(@NotNull CharSequence input, int offset) {
+        return scan(input, offset) & STATE_MASK;
+    }
 
-                String hexColor = hexColor(input, index);
-                if (hexColor != null) {
-                    result.insert(0, hexColor);
-                    break;
-                }
+    /**
+     * Returns whether a color is active in the state.
+     *
+     * @param state The packed state
+     * @return {@code true} if a color is active. Otherwise, {@code false}.
+     */
+    public static boolean hasColor(long state) {
+        return (state & HAS_COLOR) != 0;
+    }
+
+    /**
+     * Returns whether the active color of the state is a hex color.
+     *
+     * @param state The packed state
+     * @return {@code true} if the active color is a hex color. Otherwise, {@code false}.
+     */
+    public static boolean hexColor(long state) {
+        return (state & HEX_COLOR) != 0;
+    }
+
+    /**
+     * Returns the active color of the state. This is the rgb value for hex colors, otherwise the index of the legacy color code from {@code 0} to {@code 15}.
+     *
+     * @param state The packed state
+     * @return The active color
+     */
+    public static int color(long state) {
+        return (int) (state & COLOR_MASK);
+    }
+
+    /**
+     * Returns whether a format is active in the state.
+     *
+     * @param state The packed state
+     * @param code  The code of the format, one of {@code k}, {@code l}, {@code m}, {@code n} and {@code o}
+     * @return {@code true} if the format is active. Otherwise, {@code false}.
+     */
+    public static boolean hasFormat(long state, char code) {
+        int format = FORMATS.indexOf(Character.toLowerCase(code));
+        return format != -1 && (state & (1L << (FORMAT_SHIFT + format))) != 0;
+    }
+
+    /**
+     * Returns the legacy codes restoring the state, starting with the color followed by all formats.
+     *
+     * @param state The packed state
+     * @return The legacy codes with the legacy color char. Empty if nothing is active
+     */
+    public static @NotNull String codes(long state) {
+        StringBuilder builder = new StringBuilder();
 
-                char c = input.charAt(index + 1);
-                String color = String.valueOf(LEGACY_CHAR + c);
+        if (hasColor(state)) {
+            if (hexColor(state)) {
+                builder.append(LEGACY_CHAR).append('x');
 
-                result.insert(0, color);
+                for (int shift = 20; shift >= 0; shift -= 4) {
+                    builder.append(LEGACY_CHAR).append(COLORS.charAt((color(state) >> shift) & 0xF));
+                }
 
-                if (color.equals(LEGACY_CHAR + "r")) break;
+            } else {
+                builder.append(LEGACY_CHAR).append(COLORS.charAt(color(state)));
             }
         }
 
-        return result.toString();
+        for (int format = 0; format < FORMATS.length(); format++) {
+            if ((state & (1L << (FORMAT_SHIFT + format))) != 0) builder.append(LEGACY_CHAR).append(FORMATS.charAt(format));
+        }
+        return builder.toString();
     }
 
     /**
-     * Gets the hex color from an input string.
+     * Splits the input into a prefix of at most {@code cutOff} chars and a suffix in a single pass.
+     * A code is never cut in half and the suffix starts with the codes active at the end of the prefix. The suffix is limited to {@code cutOff} chars as well.
      *
-     * @param input The input string
-     * @param index The index where the color starts
-     * @return The hex color
+     * @param input  The input string
+     * @param cutOff The maximum amount of chars of each part
+     * @return The prefix and the suffix
      */
-    private static @Nullable String hexColor(@NotNull String input, int index) {
-        if (index < 12) return null;
-        if (input.charAt(index - 11) == 'x' || input.charAt(index - 12) != LEGACY_CHAR) return null;
+    public static @NotNull Pair<String, String> split(@NotNull String input, int cutOff) {
+        if (input.length() <= cutOff) return Pair.of(input, "");
+
+        long scanned = scan(input, cutOff);
+        int cut = (int) (scanned >>> POSITION_SHIFT);
+
+        String suffix = codes(scanned & STATE_MASK) + input.substring(cut);
+        return Pair.of(input.substring(0, cut), suffix.length() <= cutOff ? suffix : suffix.substring(0, cutOff));
+    }
+
+    /**
+     * Scans the input forward up to the offset. The lower bits of the result hold the state,
+     * the upper bits the position the scan stopped at. This is the start of a code not ending before the offset or the offset itself.
+     *
+     * @param input  The input
+     * @param offset The offset
+     * @return The packed state and position
+     */
+    private static long scan(@NotNull CharSequence input, int offset) {
+        int end = Math.min(offset, input.length());
+        long state = 0;
+
+        int index = 0;
+        while (index < end) {
+            if (input.charAt(index) != LEGACY_CHAR || index + 1 >= input.length()) {
+                index++;
+                continue;
+            }
+
+            char code = Character.toLowerCase(input.charAt(index + 1));
+            boolean hex = code == 'x' && hexAt(input, index);
+            int color = COLORS.indexOf(code);
+            int format = FORMATS.indexOf(code);
+
+            if (!hex && color == -1 && format == -1 && code != 'r') {
+                index++;
+                continue;
+            }
+
+            int length = hex ? HEX_LENGTH : 2;
+            if (index + length > end) break;
+
+            if (hex) {
+                state = HAS_COLOR | HEX_COLOR | hexValue(input, index);
+            } else if (color != -1) {
+                state = HAS_COLOR | color;
+            } else if (format != -1) {
+                state |= 1L << (FORMAT_SHIFT + format);
+            } else if (code == 'r') {
+                state = 0;
+            }
 
-        for (int i = index; i <= index; i += 2) {
-            if (input.charAt(i) != LEGACY_CHAR) return null;
+            index += length;
         }
 
-        for (int i = index - 9; i <= (index + 1); i += 2) {
-            char toCheck = input.charAt(i);
-            if (toCheck < '0' || toCheck > 'f') return null;
-            if (toCheck > '9' && toCheck < 'A') return null;
-            if (toCheck > 'F' && toCheck < 'a') return null;
+        return state | ((long) index << POSITION_SHIFT);
+    }
+
+    /**
+     * Checks if a complete hex color in the format {@code &x&r&r&g&g&b&b} starts at the index.
+     *
+     * @param input The input
+     * @param index The index of the first legacy color char
+     * @return {@code true} if a hex color starts at the index. Otherwise, {@code false}.
+     */
+    private static boolean hexAt(@NotNull CharSequence input, int index) {
+        if (index + HEX_LENGTH > input.length()) return false;
+
+        for (int i = index + 2; i < index + HEX_LENGTH; i += 2) {
+            if (input.charAt(i) != LEGACY_CHAR) return false;
+            if (Character.digit(input.charAt(i + 1), 16) == -1) return false;
         }
+        return true;
+    }
 
-        return input.substring(index - 12, index + 2);
+    /**
+     * Reads the rgb value of a hex color starting at the index.
+     *
+     * @param input The input
+     * @param index The index of the first legacy color char
+     * @return The rgb value
+     */
+    private static int hexValue(@NotNull CharSequence input, int index) {
+        int value = 0;
+        for (int i = index + 3; i < index + HEX_LENGTH; i += 2) {
+            value = (value << 4) | Character.digit(input.charAt(i), 16);
+        }
+        return value;
     }
 
 }
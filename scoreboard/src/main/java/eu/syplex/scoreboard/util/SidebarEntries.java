@@ -0,0 +1,92 @@
+package eu.syplex.scoreboard.util;
+
+import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Utility class holding the precomputed entries and team names of sidebar lines. <br>
+ * Every entry only consists of legacy color codes, so it is invisible and unique. This is done to ensure that
+ * <ol>
+ *     <li>Duplicate lines can be created</li>
+ *     <li>The content of a scoreboard line is stored in the team prefix + suffix, rather than the entry itself</li>
+ * </ol>
+ * The tables are computed once when the class is initialized, so looking up an entry never allocates.
+ *
+ * @version 1.0.0
+ * @since 1.3.0
+ */
+public final class SidebarEntries {
+
+    /**
+     * The maximum amount of lines entries are available for
+     */
+    public static final int MAX_ENTRIES = 1024;
+
+    /**
+     * The maximum amount of lines shown in the sidebar by the client
+     */
+    public static final int MAX_VISIBLE_LINES = 15;
+
+    private static final String[] ENTRIES = new String[MAX_ENTRIES];
+    private static final String[] TEAMS = new String[MAX_ENTRIES];
+
+    static {
+        for (int index = 0; index < MAX_ENTRIES; index++) {
+            ENTRIES[index] = encode(index);
+            TEAMS[index] = "line" + index;
+        }
+    }
+
+    private SidebarEntries() {
+    }
+
+    /**
+     * Returns the unique entry of the line with the given index.
+     *
+     * @param index The index of the line
+     * @return The invisible entry
+     * @throws ArrayIndexOutOfBoundsException Thrown if the index is negative or not below {@link #MAX_ENTRIES}
+     */
+    public static @NotNull String entry(int index) {
+        return ENTRIES[index];
+    }
+
+    /**
+     * Returns the name of the team storing the line with the given index.
+     *
+     * @param index The index of the line
+     * @return The name of the team
+     * @throws ArrayIndexOutOfBoundsException Thrown if the index is negative or not below {@link #MAX_ENTRIES}
+     */
+    public static @NotNull String team(int index) {
+        return TEAMS[index];
+    }
+
+    /**
+     * Returns the fixed score of the line with the given index. The top line has the highest score. <br>
+     * Scores only depend on the index and not on the amount of lines, so adding or removing lines never touches the scores of the other lines.
+     * Since the client shows the scores, they count down from {@link #MAX_VISIBLE_LINES} to {@code 1} for the visible lines.
+     *
+     * @param index The index of the line
+     * @return The score of the line
+     */
+    public static int score(int index) {
+        return MAX_VISIBLE_LINES - index;
+    }
+
+    /**
+     * Encodes the index as hexadecimal digits, each written as a legacy color code, followed by a reset code.
+     *
+     * @param index The index to encode
+     * @return The encoded entry
+     */
+    private static @NotNull String encode(int index) {
+        String digits = Integer.toHexString(index);
+        StringBuilder builder = new StringBuilder(digits.length() * 2 + 2);
+
+        for (int i = 0; i < digits.length(); i++) {
+            builder.append(LegacyComponentSerializer.SECTION_CHAR).append(digits.charAt(i));
+        }
+        return builder.append(LegacyComponentSerializer.SECTION_CHAR).append('r').toString();
+    }
+}
@@ -6,6 +6,7 @@
 module Core.scoreboard.main {
     requires Core.common.main;
     requires kotlin.stdlib;
+    requires java.logging;
 
     requires org.bukkit;
     requires org.apache.commons.lang3;